@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.benchmark;
+
+import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.filter.sort.SortType;
+import com.smartsensesolutions.commons.dao.operator.CriteriaOperator;
+import com.smartsensesolutions.commons.dao.operator.Operator;
+import com.smartsensesolutions.commons.dao.sample.entity.Author;
+import com.smartsensesolutions.commons.dao.sample.service.AuthorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full {@code filter} and {@code count} calls of the sample {@link AuthorService} against the embedded H2 database,
+ * covering the FilterRequest optimization, the specification, {@code getPageRequest} and the content and count queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FilterBenchmark {
+
+    public enum FilterCase {
+        PAGE, EQUALS, IN, CONTAIN, JOIN, AND_OR
+    }
+
+    @Param({"10000"})
+    private int authors;
+
+    @Param({"20"})
+    private int pageSize;
+
+    @Param
+    private FilterCase filterCase;
+
+    private ConfigurableApplicationContext context;
+    private AuthorService authorService;
+    private FilterRequest filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SampleDatabase.start(authors);
+        authorService = context.getBean(AuthorService.class);
+        filter = new FilterRequest();
+        filter.setPage(0);
+        filter.setSize(pageSize);
+        filter.appendSort("id", SortType.ASC);
+        switch (filterCase) {
+            case PAGE -> {
+            }
+            case EQUALS -> filter.appendCriteria("authorName", Operator.EQUALS, SampleDatabase.authorName(authors / 2));
+            case IN -> filter.appendCriteria("status", Operator.IN, "ONLINE", "AWAY", "DND");
+            case CONTAIN -> filter.appendCriteria("authorName", Operator.CONTAIN, "miller");
+            case JOIN -> filter.appendCriteria("address.city", Operator.EQUALS, SampleDatabase.CITIES[0]);
+            case AND_OR -> {
+                filter.setCriteriaOperator(CriteriaOperator.AND);
+                filter.appendCriteria("active", Operator.TRUE);
+                filter.appendCriteria("age", Operator.GREATER_EQUALS, "30");
+                filter.appendOrCriteria("address.city", Operator.EQUALS, SampleDatabase.CITIES[1]);
+                filter.appendOrCriteria("authorName", Operator.STARTS_WITH, "Zi");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Author> filter() {
+        return authorService.filter(filter);
+    }
+
+    @Benchmark
+    public long count() {
+        return authorService.count(filter);
+    }
+}
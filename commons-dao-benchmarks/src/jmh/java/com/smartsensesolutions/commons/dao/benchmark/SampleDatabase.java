@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.benchmark;
+
+import com.smartsensesolutions.commons.dao.sample.CommonsDaoSampleApplication;
+import com.smartsensesolutions.commons.dao.sample.entity.EActivityStatus;
+import com.smartsensesolutions.commons.dao.sample.entity.ELevel;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts the sample application against an embedded H2 database, the schema is generated from the sample entities and
+ * seeded with the given number of authors, each with an address and two books, spread over the countries.
+ */
+public final class SampleDatabase {
+
+    public static final String[] CITIES = {"Ahmedabad", "Rajkot", "Gandhinagar", "Kucch", "Amreli", "Jamnagar", "Surat",
+            "Vadodara", "Bhavnagar", "Junagadh"};
+    public static final String[] FIRST_NAMES = {"John", "Zimple", "Yeo", "Yurky", "Zastrow", "Ziemer", "Ramesh", "Kanji"};
+    public static final String[] LAST_NAMES = {"Doe", "Eriksen", "Miller", "Anderson", "Thomson", "Olsson", "Purohit", "Varma"};
+
+    private static final int COUNTRIES = 20;
+    private static final int BATCH_SIZE = 1000;
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+
+    private SampleDatabase() {
+    }
+
+    /**
+     * Start the sample application with a new in-memory database.
+     *
+     * @param authors - Indicates the number of authors to seed.
+     * @return ConfigurableApplicationContext, close it in the tear-down of the benchmark.
+     */
+    public static ConfigurableApplicationContext start(int authors) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CommonsDaoSampleApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark" + DATABASE_SEQUENCE.incrementAndGet() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.flyway.enabled=false",
+                        "--smartsense.commons.dao.usage.enabled=false",
+                        "--logging.level.root=WARN");
+        seed(context.getBean(JdbcTemplate.class), authors);
+        return context;
+    }
+
+    public static String authorName(int index) {
+        return FIRST_NAMES[index % FIRST_NAMES.length] + " " + LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length] + " " + index;
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int authors) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> countries = new ArrayList<>();
+        for (int i = 1; i <= COUNTRIES; i++) {
+            countries.add(new Object[]{i, "Country " + i, 1_000_000L * i, i % 5 != 0, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO country(id, country_name, population, active, created_at) VALUES (?, ?, ?, ?, ?)", countries);
+
+        List<Object[]> addresses = new ArrayList<>();
+        List<Object[]> authorRows = new ArrayList<>();
+        List<Object[]> books = new ArrayList<>();
+        List<Object[]> authorBooks = new ArrayList<>();
+        List<Object[]> countryAuthors = new ArrayList<>();
+        for (int i = 1; i <= authors; i++) {
+            addresses.add(new Object[]{i, CITIES[i % CITIES.length], "H " + i, "Street No " + (i % 50), true, now});
+            authorRows.add(new Object[]{i, authorName(i), 18 + i % 60, UUID.randomUUID(), i % 10 != 0,
+                    EActivityStatus.values()[i % EActivityStatus.values().length].name(), i % ELevel.values().length, now, i});
+            for (int j = 0; j < 2; j++) {
+                int bookId = i * 2 - j;
+                books.add(new Object[]{bookId, "Book " + bookId, "Description of the book " + bookId, true, now});
+                authorBooks.add(new Object[]{i, bookId});
+            }
+            countryAuthors.add(new Object[]{i % COUNTRIES + 1, i});
+            if (i % BATCH_SIZE == 0 || i == authors) {
+                jdbcTemplate.batchUpdate("INSERT INTO address(id, city, house, street, active, created_at) VALUES (?, ?, ?, ?, ?, ?)", addresses);
+                jdbcTemplate.batchUpdate("INSERT INTO author(id, author_name, age, uuid, active, status, level, created_at, address_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", authorRows);
+                jdbcTemplate.batchUpdate("INSERT INTO books(id, book_name, description, active, created_at) VALUES (?, ?, ?, ?, ?)", books);
+                jdbcTemplate.batchUpdate("INSERT INTO author_books_mapping(author_id, book_id) VALUES (?, ?)", authorBooks);
+                jdbcTemplate.batchUpdate("INSERT INTO country_author_mapping(country_id, author_id) VALUES (?, ?)", countryAuthors);
+                addresses.clear();
+                authorRows.clear();
+                books.clear();
+                authorBooks.clear();
+                countryAuthors.clear();
+            }
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.benchmark;
+
+import com.smartsensesolutions.commons.dao.filter.Criteria;
+import com.smartsensesolutions.commons.dao.operator.Operator;
+import com.smartsensesolutions.commons.dao.sample.entity.Country;
+import com.smartsensesolutions.commons.dao.specification.SpecificationUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Predicate construction of {@link SpecificationUtil} for each {@link Operator}, across the number of criteria and the
+ * join depth of the column i.e. {@code countryName}, {@code authors.authorName} and {@code authors.address.city}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpecificationBenchmark {
+
+    private static final String[] JOIN_PATHS = {"", "authors.", "authors.address."};
+
+    @Param
+    private Operator operator;
+
+    @Param({"1", "4", "16"})
+    private int criteriaCount;
+
+    @Param({"0", "1", "2"})
+    private int joinDepth;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private Specification<Country> specification;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        context = SampleDatabase.start(0);
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        SpecificationUtil<Country> specificationUtil = context.getBean(SpecificationUtil.class);
+        List<Criteria> criteria = new ArrayList<>();
+        for (int i = 0; i < criteriaCount; i++) {
+            criteria.add(getCriteria(i));
+        }
+        specification = specificationUtil.generateAndSpecification(criteria);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Predicate toPredicate() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Country> query = cb.createQuery(Country.class);
+        Root<Country> root = query.from(Country.class);
+        return specification.toPredicate(root, query, cb);
+    }
+
+    private Criteria getCriteria(int index) {
+        String path = JOIN_PATHS[joinDepth];
+        return switch (operator) {
+            case TRUE, FALSE -> new Criteria(path + "active", operator, List.of());
+            case GREATER_THAN, LESSER_THAN, GREATER_EQUALS, LESSER_EQUALS -> new Criteria(path + "id", operator, List.of(String.valueOf(index)));
+            case IN, NOT_IN -> new Criteria(path + getTextColumn(), operator, List.of("Surat", "Rajkot", "Value " + index));
+            default -> new Criteria(path + getTextColumn(), operator, List.of("Value " + index));
+        };
+    }
+
+    private String getTextColumn() {
+        return switch (joinDepth) {
+            case 0 -> "countryName";
+            case 1 -> "authorName";
+            default -> "city";
+        };
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.benchmark;
+
+import com.smartsensesolutions.commons.dao.sample.entity.EActivityStatus;
+import com.smartsensesolutions.commons.dao.specification.SpecificationValueConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Conversion of the criteria values of a large {@code IN} list by {@link SpecificationValueConverter}, the values are
+ * passed as String the way they are received in the JSON FilterRequest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValueConversionBenchmark {
+
+    public enum ValueType {
+        ENUM, UUID, DATE
+    }
+
+    @Param
+    private ValueType valueType;
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private SpecificationValueConverter valueConverter;
+    private Class<?> javaType;
+    private List<Object> values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        valueConverter = new SpecificationValueConverter(List.of());
+        values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(switch (valueType) {
+                case ENUM -> EActivityStatus.values()[i % EActivityStatus.values().length].name();
+                case UUID -> UUID.randomUUID().toString();
+                case DATE -> String.valueOf(System.currentTimeMillis() - i * 1000L);
+            });
+        }
+        javaType = switch (valueType) {
+            case ENUM -> EActivityStatus.class;
+            case UUID -> UUID.class;
+            case DATE -> Date.class;
+        };
+    }
+
+    @Benchmark
+    public void convertInList(Blackhole blackhole) {
+        Function<Object, Object> converter = valueConverter.getConverter(javaType);
+        for (Object value : values) {
+            blackhole.consume(converter.apply(value));
+        }
+    }
+}
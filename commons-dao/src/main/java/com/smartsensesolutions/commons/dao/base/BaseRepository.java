@@ -21,6 +21,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Each @{@link org.springframework.data.repository.Repository} must be extended with BaseRepository.
@@ -54,6 +59,29 @@ public interface BaseRepository<T extends BaseEntity, I> extends JpaRepository<T
 
     <R> Page<R> findAllProjectedBy(Pageable pageable, Class<R> clazz);
 
+    /**
+     * Method used for run the fluent query based on the JPA specification.
+     *
+     * @param specification - Indicates the JPA specification used for search on BaseEntity.
+     * @param queryFunction - Indicates the function defining the query and its result.
+     * @return Result of the query function.
+     */
+    <S extends T, R> R findBy(Specification<T> specification, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction);
+
+    /**
+     * Method used for fetch all elements from the entity class with the fetch graph of the given paths, associations
+     * outside the paths are not loaded.
+     *
+     * @param specification - Indicates the JPA specification used for search on BaseEntity, optional.
+     * @param pageable      - Indicates the pageable request for JPA queries.
+     * @param graphPaths    - Indicates the attribute paths of the fetch graph.
+     * @return Page response with entity details.
+     */
+    default Page<T> findAll(Specification<T> specification, Pageable pageable, List<String> graphPaths) {
+        Specification<T> where = Objects.isNull(specification) ? Specification.where(null) : specification;
+        return findBy(where, query -> query.project(graphPaths).page(pageable));
+    }
+
     /**
      * Method used for fetch count based on the JPA specification.
      *
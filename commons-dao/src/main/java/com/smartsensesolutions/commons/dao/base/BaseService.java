@@ -16,22 +16,100 @@
 
 package com.smartsensesolutions.commons.dao.base;
 
+import com.smartsensesolutions.commons.dao.bulk.BulkInsertExecutor;
+import com.smartsensesolutions.commons.dao.bulk.BulkInsertStrategy;
+import com.smartsensesolutions.commons.dao.cache.FilterResultCache;
+import com.smartsensesolutions.commons.dao.config.CommonsDaoExecutors;
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.fetch.FetchPlanResolver;
+import com.smartsensesolutions.commons.dao.fetch.ResolvedFetchPlan;
+import com.smartsensesolutions.commons.dao.filter.FetchPlan;
 import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.filter.cursor.CursorPage;
+import com.smartsensesolutions.commons.dao.filter.cursor.KeysetCursor;
 import com.smartsensesolutions.commons.dao.filter.sort.SortType;
+import com.smartsensesolutions.commons.dao.metrics.DaoMetrics;
+import com.smartsensesolutions.commons.dao.multiget.MultiGetExecutor;
+import com.smartsensesolutions.commons.dao.multiget.MultiGetResult;
 import com.smartsensesolutions.commons.dao.operator.CriteriaOperator;
+import com.smartsensesolutions.commons.dao.paging.PagingStrategy;
+import com.smartsensesolutions.commons.dao.paging.TwoPhasePageExecutor;
+import com.smartsensesolutions.commons.dao.slowlog.SlowFilterLogger;
 import com.smartsensesolutions.commons.dao.specification.SpecificationUtil;
+import com.smartsensesolutions.commons.dao.specification.SpecificationValueConverter;
+import com.smartsensesolutions.commons.dao.specification.optimizer.FilterRequestOptimizer;
+import com.smartsensesolutions.commons.dao.specification.optimizer.OptimizedFilter;
+import com.smartsensesolutions.commons.dao.statement.StatementCapture;
+import com.smartsensesolutions.commons.dao.statement.StatementGuard;
+import com.smartsensesolutions.commons.dao.usage.FilterUsageRecorder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Each @{@link org.springframework.stereotype.Service} must be extended with BaseService.
@@ -44,6 +122,55 @@ public abstract class BaseService<E extends BaseEntity, I> {
     @Autowired
     private SpecificationUtil<E> specificationUtil;
 
+    @Autowired
+    private SpecificationValueConverter valueConverter;
+
+    @Autowired
+    private CommonsDaoProperties properties;
+
+    @Autowired
+    private BulkInsertExecutor bulkInsertExecutor;
+
+    @Autowired
+    private CommonsDaoExecutors commonsDaoExecutors;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private FilterResultCache resultCache;
+
+    @Autowired
+    private FilterRequestOptimizer filterOptimizer;
+
+    @Autowired
+    private FilterUsageRecorder usageRecorder;
+
+    @Autowired
+    private DaoMetrics daoMetrics;
+
+    @Autowired
+    private SlowFilterLogger slowFilterLogger;
+
+    @Autowired
+    private StatementGuard statementGuard;
+
+    @Autowired
+    private FetchPlanResolver fetchPlanResolver;
+
+    @Autowired
+    private TwoPhasePageExecutor twoPhasePageExecutor;
+
+    @Autowired
+    private MultiGetExecutor multiGetExecutor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private Class<E> entityClass;
+
     /**
      * Method needs to Override by each service which extends BaseService. It provides Repository of entity type to perform operation
      *
@@ -51,14 +178,58 @@ public abstract class BaseService<E extends BaseEntity, I> {
      */
     protected abstract BaseRepository<E, I> getRepository();
 
+    /**
+     * Method can be overridden to provide the executor used by the async filter methods.
+     *
+     * @return Executor, by default the executor of {@link CommonsDaoExecutors} bounded by
+     * {@code smartsense.commons.dao.async.max-concurrency}.
+     */
+    protected Executor getAsyncExecutor() {
+        return commonsDaoExecutors.getDefaultExecutor();
+    }
+
+    /**
+     * Method can be overridden to provide the number of chunks loaded concurrently by {@link #getAsMap(Iterable)}.
+     *
+     * @return Parallelism, by default {@code smartsense.commons.dao.multi-get.parallelism}.
+     */
+    protected int getMultiGetParallelism() {
+        return properties.getMultiGet().getParallelism();
+    }
+
+    /**
+     * Method can be overridden to provide the fields which can be selected by {@link #filterFields(FilterRequest)},
+     * the {@code fields} of the FilterRequest are restricted to these fields so the columns not exposed by the service
+     * can not be selected. The dotted paths selected into the record components are restricted to these fields as well.
+     *
+     * @return Selectable fields, by default none.
+     */
+    protected Set<String> getSelectableFields() {
+        return Set.of();
+    }
+
+    /**
+     * Method can be overridden to provide the paging strategy of the filter methods of the service.
+     *
+     * @return PagingStrategy, by default {@code smartsense.commons.dao.paging-strategy}.
+     */
+    protected PagingStrategy getPagingStrategy() {
+        return properties.getPagingStrategy();
+    }
+
     /**
      * Method used for save entity.
      *
      * @param newEntity - Indicates the entity that needs to be saved.
      * @return Newly created or updated entity
      */
+    @Transactional
     public E create(E newEntity) {
-        return getRepository().save(newEntity);
+        return observe("create", () -> {
+            E entity = getRepository().save(newEntity);
+            resultCache.invalidate(getEntityClass());
+            return entity;
+        });
     }
 
     /**
@@ -67,8 +238,47 @@ public abstract class BaseService<E extends BaseEntity, I> {
      * @param iterable - Indicates the iterable entities.
      * @return Newly created or updated entities
      */
+    @Transactional
     public List<E> create(Iterable<E> iterable) {
-        return getRepository().saveAll(iterable);
+        return observe("create", () -> {
+            List<E> entities = getRepository().saveAll(iterable);
+            resultCache.invalidate(getEntityClass());
+            return entities;
+        });
+    }
+
+    /**
+     * Method used for insert large number of entities with bounded memory using {@link BulkInsertStrategy#AUTO}.
+     * Entities are inserted in chunks with JDBC batching, or with native multi-row insert for the entities with
+     * {@code IDENTITY} id generation, and the persistence context is flushed and cleared after each chunk, so the
+     * inserted entities are detached.
+     *
+     * @param iterable  - Indicates the iterable entities.
+     * @param chunkSize - Indicates the number of entities inserted per chunk.
+     * @return Number of inserted entities
+     */
+    @Transactional
+    public long bulkCreate(Iterable<E> iterable, int chunkSize) {
+        return bulkCreate(iterable, chunkSize, BulkInsertStrategy.AUTO);
+    }
+
+    /**
+     * Method used for insert large number of entities with the given strategy. Use {@link BulkInsertStrategy#AUTO} to
+     * fall back to native multi-row insert for the entities with {@code IDENTITY} id generation, which can not be
+     * batched by JPA.
+     *
+     * @param iterable  - Indicates the iterable entities.
+     * @param chunkSize - Indicates the number of entities inserted per chunk.
+     * @param strategy  - Indicates the bulk insert strategy.
+     * @return Number of inserted entities
+     */
+    @Transactional
+    public long bulkCreate(Iterable<E> iterable, int chunkSize, BulkInsertStrategy strategy) {
+        return observe("bulkCreate", () -> {
+            long count = bulkInsertExecutor.insert(getEntityClass(), iterable, chunkSize, strategy);
+            resultCache.invalidate(getEntityClass());
+            return count;
+        });
     }
 
     /**
@@ -79,7 +289,7 @@ public abstract class BaseService<E extends BaseEntity, I> {
      */
     @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
     public E get(I entityId) {
-        return getRepository().findById(entityId).orElse(null);
+        return observe("get", () -> getRepository().findById(entityId).orElse(null));
     }
 
     /**
@@ -90,7 +300,20 @@ public abstract class BaseService<E extends BaseEntity, I> {
      */
     @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
     public List<E> get(Iterable<I> entityIds) {
-        return getRepository().findAllById(entityIds);
+        return observe("get", () -> getRepository().findAllById(entityIds));
+    }
+
+    /**
+     * Method used for fetch multiple entities by @{@link jakarta.persistence.Id} column with the ids without entity. The
+     * ids are loaded in chunks of {@code smartsense.commons.dao.multi-get.chunk-size}, so any number of ids can be
+     * fetched.
+     *
+     * @param entityIds - Indicates the entityIds.
+     * @return MultiGetResult with the entities by id and the missing ids, in the order of the entityIds.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
+    public MultiGetResult<I, E> getAsMap(Iterable<I> entityIds) {
+        return observe("getAsMap", () -> multiGet(entityIds));
     }
 
     /**
@@ -100,7 +323,7 @@ public abstract class BaseService<E extends BaseEntity, I> {
      */
     @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
     public List<E> getAll() {
-        return getRepository().findAll();
+        return observe("getAll", () -> getRepository().findAll());
     }
 
     /**
@@ -108,8 +331,75 @@ public abstract class BaseService<E extends BaseEntity, I> {
      *
      * @param entityId - Indicates the EntityId
      */
+    @Transactional
     public void delete(I entityId) {
-        getRepository().deleteById(entityId);
+        observe("delete", () -> {
+            getRepository().deleteById(entityId);
+            resultCache.invalidate(getEntityClass());
+            return null;
+        });
+    }
+
+    /**
+     * Method used for update all the records matching the criteria of the given FilterRequest with a single SQL
+     * statement, entities are not loaded into the persistence context. Criteria on the association paths are applied
+     * with the id subquery i.e. {@code update author set active = false where id in (select ...)}. The
+     * {@link jakarta.persistence.Version} of the updated records is incremented, so the optimistic lock of the entities
+     * loaded before the update fails.
+     *
+     * @param filter      - Indicates the FilterRequest, only criteria parameters are used.
+     * @param assignments - Indicates the entity field name and the new value, values are converted same as criteria values.
+     *                    The id, the version, the collections and the non-updatable fields can not be assigned.
+     * @return Number of updated records
+     */
+    @Transactional
+    public int updateByFilter(FilterRequest filter, Map<String, Object> assignments) {
+        if (CollectionUtils.isEmpty(assignments)) {
+            throw new IllegalArgumentException("assignments require");
+        }
+        return observe("updateByFilter", null, filter, () -> {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaUpdate<E> update = cb.createCriteriaUpdate(getEntityClass());
+            Root<E> root = update.from(getEntityClass());
+            EntityPersister persister = getEntityPersister();
+            assignments.forEach((column, value) -> {
+                validateUpdatable(persister, column);
+                Path<Object> path = root.get(column);
+                if (Objects.isNull(value)) {
+                    update.set(path, cb.nullLiteral(path.getJavaType()));
+                } else {
+                    update.set(path, valueConverter.getValue(path, value));
+                }
+            });
+            if (persister.isVersioned()) {
+                Path<Object> version = root.get(persister.getPropertyNames()[persister.getVersionProperty()]);
+                update.set(version, getNextVersion(version, cb));
+            }
+            update.where(getBulkPredicate(filter, root, update, cb));
+            int count = entityManager.createQuery(update).executeUpdate();
+            resultCache.invalidate(getEntityClass());
+            return count;
+        });
+    }
+
+    /**
+     * Method used for delete all the records matching the criteria of the given FilterRequest with a single SQL
+     * statement, entities are not loaded into the persistence context and no entity callbacks or cascades are applied.
+     *
+     * @param filter - Indicates the FilterRequest, only criteria parameters are used.
+     * @return Number of deleted records
+     */
+    @Transactional
+    public int deleteByFilter(FilterRequest filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<E> delete = cb.createCriteriaDelete(getEntityClass());
+        Root<E> root = delete.from(getEntityClass());
+        delete.where(getBulkPredicate(filter, root, delete, cb));
+        return observe("deleteByFilter", null, filter, () -> {
+            int count = entityManager.createQuery(delete).executeUpdate();
+            resultCache.invalidate(getEntityClass());
+            return count;
+        });
     }
 
     /**
@@ -120,7 +410,7 @@ public abstract class BaseService<E extends BaseEntity, I> {
      */
     @Transactional(readOnly = true)
     public boolean existsById(I entityId) {
-        return getRepository().existsById(entityId);
+        return observe("existsById", () -> getRepository().existsById(entityId));
     }
 
     /**
@@ -131,7 +421,8 @@ public abstract class BaseService<E extends BaseEntity, I> {
      */
     @Transactional(readOnly = true)
     public Page<E> filter(FilterRequest filter) {
-        return filter(getSpecificationFromFilterRequest(filter), filter);
+        return execute("filter", null, filter, request -> filter(getSpecificationFromFilterRequest(request), request),
+                () -> Page.empty(getPageRequest(filter)));
     }
 
     /**
@@ -143,21 +434,31 @@ public abstract class BaseService<E extends BaseEntity, I> {
      */
     @Transactional(readOnly = true)
     public <R> Page<R> filter(FilterRequest filter, Class<R> clazz) {
-        return filter(getSpecificationFromFilterRequest(filter), filter, clazz);
+        return execute("filter", clazz, filter, request -> filter(getSpecificationFromFilterRequest(request), request, clazz),
+                () -> Page.empty(getPageRequest(filter)));
     }
 
     /**
-     * Method used for generate Page response based on the given FilterRequest and specification.
+     * Method used for generate Page response based on the given FilterRequest and specification. The
+     * {@code fetchPlan} of the FilterRequest is applied as the fetch graph of the query, the page is queried with the
+     * {@link #getPagingStrategy()}.
      *
      * @param specification - Indicates the custom specification that needs to apply.
-     * @param filter        - Indicates the FilterRequest used to get page and sort parameters, not the criteria
-     *                      parameters
+     * @param filter        - Indicates the FilterRequest used to get page, sort and fetch plan parameters, not the
+     *                      criteria parameters
      * @return Page of Entity
      */
     @Transactional(readOnly = true)
     public Page<E> filter(Specification<E> specification, FilterRequest filter) {
         try {
             PageRequest pageRequest = getPageRequest(filter);
+            ResolvedFetchPlan fetchPlan = resolveFetchPlan(filter);
+            if (isTwoPhase(filter, fetchPlan)) {
+                return twoPhasePageExecutor.findPage(getEntityClass(), specification, pageRequest, getFetchPaths(fetchPlan));
+            }
+            if (Objects.nonNull(fetchPlan)) {
+                return findPage(specification, pageRequest, fetchPlan);
+            }
             if (Objects.isNull(specification)) {
                 return getRepository().findAll(pageRequest);
             }
@@ -168,11 +469,13 @@ public abstract class BaseService<E extends BaseEntity, I> {
     }
 
     /**
-     * Method used for generate Page response based on the given FilterRequest and specification.
+     * Method used for generate Page response based on the given FilterRequest and specification. With the
+     * {@code fetchPlan} of the FilterRequest or the {@link PagingStrategy#TWO_PHASE} paging the entities are loaded
+     * and projected to the interface.
      *
      * @param specification - Indicates the custom specification that needs to apply.
-     * @param filter        - Indicates the FilterRequest used to get page and sort parameters, not the criteria
-     *                      parameters
+     * @param filter        - Indicates the FilterRequest used to get page, sort and fetch plan parameters, not the
+     *                      criteria parameters
      * @param clazz         - Projected return type
      * @return Page of Entity Projection
      */
@@ -180,6 +483,14 @@ public abstract class BaseService<E extends BaseEntity, I> {
     public <R> Page<R> filter(Specification<E> specification, FilterRequest filter, Class<R> clazz) {
         try {
             PageRequest pageRequest = getPageRequest(filter);
+            ResolvedFetchPlan fetchPlan = resolveFetchPlan(filter);
+            if (isTwoPhase(filter, fetchPlan)) {
+                return twoPhasePageExecutor.findPage(getEntityClass(), specification, pageRequest, getFetchPaths(fetchPlan))
+                        .map(entity -> project(entity, clazz));
+            }
+            if (Objects.nonNull(fetchPlan)) {
+                return findPage(specification, pageRequest, fetchPlan).map(entity -> project(entity, clazz));
+            }
             if (Objects.isNull(specification)) {
                 return getRepository().findAllProjectedBy(pageRequest, clazz);
             }
@@ -190,14 +501,198 @@ public abstract class BaseService<E extends BaseEntity, I> {
     }
 
     /**
-     * Method used for fetch count based on the FilterRequest.
+     * Method used for generate Page response with only the {@code fields} of the FilterRequest selected, without
+     * loading the entities and their associations. Dotted paths are selected with a left join of the association and
+     * returned as nested map i.e. {@code {"authorName": "John", "address": {"city": "Surat"}}}, a path of a collection
+     * association returns one row per element of the collection. The maps are unmodifiable, as the response is cached
+     * when {@code smartsense.commons.dao.cache.enabled} is set.
+     *
+     * @param filter - Indicates the FilterRequest with the {@code fields}, restricted to {@link #getSelectableFields()}
+     * @return Page of field name to value
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> filterFields(FilterRequest filter) {
+        if (Objects.nonNull(filter.getFields())) {
+            Set<String> selectableFields = getSelectableFields();
+            for (String field : filter.getFields()) {
+                if (!selectableFields.contains(field)) {
+                    throw new IllegalArgumentException("field " + field + " is not selectable");
+                }
+            }
+        }
+        return execute("filterFields", Map.class, filter, request -> resultCache.getResult(getEntityClass(), request, Map.class, () ->
+                        findFields(request, request.getFields(), tuple -> toFieldMap(request.getFields(), tuple))),
+                () -> Page.empty(getPageRequest(filter)));
+    }
+
+    /**
+     * Method used for generate Page response of the record with only the selected fields, the values of the fields
+     * are passed to the canonical constructor of the record in order. The record component names are selected when
+     * the {@code fields} of the FilterRequest are not provided, otherwise each field must be one of the
+     * {@link #getSelectableFields()} and either the name of the record component at its position or a dotted path
+     * ending with it.
+     * The response is cached when {@code smartsense.commons.dao.cache.enabled} is set.
+     *
+     * @param filter - Indicates the FilterRequest
+     * @param clazz  - Indicates the record class
+     * @return Page of record
+     */
+    @Transactional(readOnly = true)
+    public <R extends Record> Page<R> filterFields(FilterRequest filter, Class<R> clazz) {
+        RecordComponent[] components = clazz.getRecordComponents();
+        List<String> fields = CollectionUtils.isEmpty(filter.getFields())
+                ? Arrays.stream(components).map(RecordComponent::getName).toList() : filter.getFields();
+        if (fields.size() != components.length) {
+            throw new IllegalArgumentException("fields must match the record components");
+        }
+        if (!CollectionUtils.isEmpty(filter.getFields())) {
+            Set<String> selectableFields = getSelectableFields();
+            for (String field : fields) {
+                if (!selectableFields.contains(field)) {
+                    throw new IllegalArgumentException("field " + field + " is not selectable");
+                }
+            }
+        }
+        for (int i = 0; i < components.length; i++) {
+            String field = fields.get(i);
+            if (!field.equals(components[i].getName()) && !field.endsWith("." + components[i].getName())) {
+                throw new IllegalArgumentException("field " + field + " is not selectable into the record component "
+                        + components[i].getName());
+            }
+        }
+        Constructor<R> constructor = ClassUtils.getConstructorIfAvailable(clazz,
+                Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+        if (Objects.isNull(constructor)) {
+            throw new IllegalArgumentException("record " + clazz.getName() + " has no public canonical constructor for the fields "
+                    + fields);
+        }
+        return execute("filterFields", clazz, filter, request -> resultCache.getResult(getEntityClass(), request, clazz, () ->
+                        findFields(request, fields, tuple -> BeanUtils.instantiateClass(constructor, tuple.toArray()))),
+                () -> Page.empty(getPageRequest(filter)));
+    }
+
+    /**
+     * Method used for generate Page response asynchronously based on the given FilterRequest. The content query and
+     * the count query run concurrently on the {@link #getAsyncExecutor()}, each in its own read-only transaction, so
+     * the latency is roughly the slower of the two queries instead of their sum.
+     * <p>
+     * Entities are detached when the future completes, the associations needs to be fetched eagerly.
+     *
+     * @param filter - Indicates the FilterRequest
+     * @return CompletableFuture of Page of Entity
+     */
+    public CompletableFuture<Page<E>> filterAsync(FilterRequest filter) {
+        return execute("filterAsync", null, filter, request -> findPageAsync(request, Function.identity()),
+                () -> CompletableFuture.completedFuture(Page.empty(getPageRequest(filter))));
+    }
+
+    /**
+     * Method used for generate Page response asynchronously based on the given FilterRequest.
+     *
+     * @param filter - Indicates the FilterRequest
+     * @param clazz  - Projection class
+     * @return CompletableFuture of Page of Entity Projection
+     * @see #filterAsync(FilterRequest)
+     */
+    public <R> CompletableFuture<Page<R>> filterAsync(FilterRequest filter, Class<R> clazz) {
+        return execute("filterAsync", clazz, filter, request -> findPageAsync(request, entity -> project(entity, clazz)),
+                () -> CompletableFuture.completedFuture(Page.empty(getPageRequest(filter))));
+    }
+
+    /**
+     * Method used for generate Slice response based on the given FilterRequest. It fetches {@code size + 1} records to
+     * resolve {@code hasNext}, so no count query is executed.
+     *
+     * @param filter - Indicates the FilterRequest
+     * @return Slice of Entity
+     */
+    @Transactional(readOnly = true)
+    public Slice<E> filterSlice(FilterRequest filter) {
+        return execute("filterSlice", null, filter, request -> findSlice(request, Function.identity()),
+                () -> new SliceImpl<>(List.of(), getPageRequest(filter), false));
+    }
+
+    /**
+     * Method used for generate Slice response based on the given FilterRequest without any count query.
+     *
+     * @param filter - Indicates the FilterRequest
+     * @param clazz  - Projection class
+     * @return Slice of Entity Projection
+     */
+    @Transactional(readOnly = true)
+    public <R> Slice<R> filterSlice(FilterRequest filter, Class<R> clazz) {
+        return execute("filterSlice", clazz, filter, request -> findSlice(request, entity -> project(entity, clazz)),
+                () -> new SliceImpl<>(List.of(), getPageRequest(filter), false));
+    }
+
+    /**
+     * Method used for stream all the records matching the given FilterRequest. Records are read with a forward-only
+     * JDBC scroll fetching {@code smartsense.commons.dao.stream-fetch-size} records at a time, and the persistence
+     * context is cleared after each {@code stream-fetch-size} mapped records, along with their eagerly fetched
+     * associations, so the heap usage stays flat regardless of the number of matching records. The clear also detaches
+     * the entities loaded before the stream, flush their changes before streaming. {@code page} and {@code size} of
+     * the FilterRequest are ignored.
+     * <p>
+     * Stream must be consumed within a transaction and closed after use, the operation is observed until the stream is
+     * closed.
+     *
+     * @param filter - Indicates the FilterRequest
+     * @return Stream of Entity
+     */
+    public Stream<E> stream(FilterRequest filter) {
+        return execute("stream", null, filter, request -> streamEntities(request, Function.identity()), Stream::empty);
+    }
+
+    /**
+     * Method used for stream all the records matching the given FilterRequest.
+     *
+     * @param filter - Indicates the FilterRequest
+     * @param clazz  - Projection class
+     * @return Stream of Entity Projection
+     * @see #stream(FilterRequest)
+     */
+    public <R> Stream<R> stream(FilterRequest filter, Class<R> clazz) {
+        return execute("stream", clazz, filter, request -> streamEntities(request, entity -> project(entity, clazz)), Stream::empty);
+    }
+
+    /**
+     * Method used for generate keyset (seek) page based on the given FilterRequest. The {@code after} cursor is
+     * compiled into the seek predicate on the sort columns plus the @{@link jakarta.persistence.Id} column, so each page
+     * costs the same as the first one. The {@code page} of the FilterRequest is ignored.
+     *
+     * @param filter - Indicates the FilterRequest
+     * @return CursorPage of Entity
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<E> filterByCursor(FilterRequest filter) {
+        return execute("filterByCursor", null, filter, request -> findCursorPage(request, Function.identity()),
+                () -> new CursorPage<>(List.of(), null, false));
+    }
+
+    /**
+     * Method used for generate keyset (seek) page based on the given FilterRequest.
+     *
+     * @param filter - Indicates the FilterRequest
+     * @param clazz  - Projection class
+     * @return CursorPage of Entity Projection
+     */
+    @Transactional(readOnly = true)
+    public <R> CursorPage<R> filterByCursor(FilterRequest filter, Class<R> clazz) {
+        return execute("filterByCursor", clazz, filter, request -> findCursorPage(request, entity -> project(entity, clazz)),
+                () -> new CursorPage<>(List.of(), null, false));
+    }
+
+    /**
+     * Method used for fetch count based on the FilterRequest. The count is cached when
+     * {@code smartsense.commons.dao.cache.enabled} is set.
      *
      * @param filter - Indicates the FilterRequest.
      * @return Long
      */
     @Transactional(readOnly = true)
     public long count(FilterRequest filter) {
-        return count(getSpecificationFromFilterRequest(filter));
+        return execute("count", null, filter, request -> resultCache.getCount(getEntityClass(), "count", request, () ->
+                count(getSpecificationFromFilterRequest(request))), () -> 0L);
     }
 
     /**
@@ -212,12 +707,18 @@ public abstract class BaseService<E extends BaseEntity, I> {
     }
 
     /**
-     * Method used for generate specification from {@link FilterRequest}
+     * Method used for generate specification from {@link FilterRequest}, the large {@code IN} lists are staged in the
+     * current transaction beforehand.
      *
      * @param request - Indicates the FilterRequest
      * @return Specification of Entity
      */
     private Specification<E> getSpecificationFromFilterRequest(FilterRequest request) {
+        stageInLists(request);
+        return generateSpecification(request);
+    }
+
+    private Specification<E> generateSpecification(FilterRequest request) {
         if (CollectionUtils.isEmpty(request.getCriteria())) {
             return null;
         }
@@ -227,12 +728,149 @@ public abstract class BaseService<E extends BaseEntity, I> {
             }
             return specificationUtil.generateAndSpecification(request.getCriteria());
         }
-        Specification<E> and = specificationUtil.generateAndSpecification(request.getCriteria());
-        Specification<E> or = specificationUtil.generateOrSpecification(request.getOrCriteria());
-        if (CriteriaOperator.OR.equals(request.getCriteriaOperator())) {
-            return and.or(or);
+        return specificationUtil.generateSpecification(request.getCriteria(), request.getOrCriteria(), request.getCriteriaOperator());
+    }
+
+    /**
+     * Stage the values of the large {@code IN} lists into the temporary table of the current transaction, see
+     * {@link com.smartsensesolutions.commons.dao.specification.inlist.InListPredicateFactory}.
+     */
+    private void stageInLists(FilterRequest request) {
+        ManagedType<E> entityType = entityManager.getMetamodel().managedType(getEntityClass());
+        specificationUtil.stageInLists(entityType, request.getCriteria());
+        specificationUtil.stageInLists(entityType, request.getOrCriteria());
+    }
+
+    private MultiGetResult<I, E> multiGet(Iterable<I> entityIds) {
+        return multiGetExecutor.findAllById(getEntityClass(), entityIds, properties.getMultiGet().getChunkSize(),
+                getMultiGetParallelism(), getAsyncExecutor());
+    }
+
+    /**
+     * Observe the operation by the {@link DaoMetrics}, the JDBC statements it executes are checked by the
+     * {@link StatementGuard}.
+     *
+     * @param operation - Indicates the operation name
+     * @param action    - Indicates the operation
+     * @return Result of the operation
+     */
+    private <T> T observe(String operation, Supplier<T> action) {
+        return observe(operation, null, null, action);
+    }
+
+    private <T> T observe(String operation, Class<?> projection, FilterRequest filter, Supplier<T> action) {
+        return daoMetrics.observe(getEntityClass(), operation, projection, filter, () ->
+                statementGuard.guard(getEntityClass(), operation, action));
+    }
+
+    /**
+     * Run the query with the canonical form of the FilterRequest, the query is skipped if the criteria contradict each
+     * other. The usage of the FilterRequest is recorded when the {@link FilterUsageRecorder} is enabled, the latency of
+     * the async query is recorded once it completes. Operations slower than the configured threshold are logged by the
+     * {@link SlowFilterLogger}, the statements are checked by the {@link StatementGuard}.
+     *
+     * @param operation     - Indicates the operation name used by the metrics
+     * @param projection    - Indicates the projection class used by the metrics, {@code null} for the entity
+     * @param filter        - Indicates the FilterRequest
+     * @param query         - Indicates the query of the optimized FilterRequest
+     * @param unsatisfiable - Indicates the empty result used when no record can match the criteria
+     * @return Result of the query
+     */
+    private <R> R execute(String operation, Class<?> projection, FilterRequest filter, Function<FilterRequest, R> query, Supplier<R> unsatisfiable) {
+        return observe(operation, projection, filter, () ->
+                slowFilterLogger.capture(getEntityClass(), operation, filter, () -> execute(filter, query, unsatisfiable)));
+    }
+
+    private <R> R execute(FilterRequest filter, Function<FilterRequest, R> query, Supplier<R> unsatisfiable) {
+        long start = System.nanoTime();
+        R result;
+        if (!properties.isOptimizeFilter()) {
+            result = query.apply(filter);
+        } else {
+            OptimizedFilter optimized = filterOptimizer.optimize(entityManager.getMetamodel().managedType(getEntityClass()), filter);
+            result = optimized.unsatisfiable() ? unsatisfiable.get() : query.apply(optimized.filter());
+        }
+        if (usageRecorder.isEnabled()) {
+            if (result instanceof CompletableFuture<?> future) {
+                future.whenComplete((value, ex) -> usageRecorder.record(getEntityClass(), filter, System.nanoTime() - start));
+            } else {
+                usageRecorder.record(getEntityClass(), filter, System.nanoTime() - start);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Generate the where predicate of the bulk update/delete. Update and delete statements can not join, so criteria
+     * on the association paths are applied with the id subquery.
+     */
+    private Predicate getBulkPredicate(FilterRequest filter, Root<E> root, CommonAbstractCriteria statement, CriteriaBuilder cb) {
+        Specification<E> specification = getSpecificationFromFilterRequest(filter);
+        if (Objects.isNull(specification)) {
+            throw new IllegalArgumentException("criteria require for bulk operation");
+        }
+        boolean join = Stream.of(filter.getCriteria(), filter.getOrCriteria())
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .anyMatch(criteria -> criteria.column().contains("."));
+        if (!join) {
+            return specification.toPredicate(root, null, cb);
+        }
+        String idColumn = getIdAttributeName();
+        Subquery<Object> subquery = statement.subquery(Object.class);
+        Root<E> subqueryRoot = subquery.from(getEntityClass());
+        subquery.select(subqueryRoot.get(idColumn)).where(specification.toPredicate(subqueryRoot, null, cb));
+        return root.get(idColumn).in(subquery);
+    }
+
+    /**
+     * The id, the version, the collections and the non-updatable fields i.e. {@code @Column(updatable = false)} are
+     * managed by JPA and can not be assigned by the bulk update.
+     */
+    private void validateUpdatable(EntityPersister persister, String column) {
+        Integer index = persister.getEntityMetamodel().getPropertyIndexOrNull(column);
+        if (column.equals(persister.getIdentifierPropertyName())
+                || (Objects.nonNull(index) && ((persister.isVersioned() && index == persister.getVersionProperty())
+                || !persister.getPropertyUpdateability()[index] || persister.getPropertyTypes()[index].isCollectionType()))) {
+            throw new IllegalArgumentException("field " + column + " is not updatable");
+        }
+    }
+
+    /**
+     * Next value of the {@link jakarta.persistence.Version}, numeric versions are incremented and temporal versions
+     * are set to the current timestamp of the database.
+     */
+    @SuppressWarnings("unchecked")
+    private Expression<?> getNextVersion(Path<Object> version, CriteriaBuilder cb) {
+        Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(version.getJavaType());
+        if (Number.class.isAssignableFrom(type)) {
+            return cb.sum((Expression<Number>) (Expression<?>) version, 1);
+        }
+        if (LocalDateTime.class.equals(type)) {
+            return cb.localDateTime();
+        }
+        if (Instant.class.equals(type)) {
+            return ((HibernateCriteriaBuilder) cb).currentInstant();
+        }
+        if (Date.class.isAssignableFrom(type)) {
+            return cb.currentTimestamp();
+        }
+        throw new IllegalArgumentException("version of type " + type.getName() + " not supported for bulk update");
+    }
+
+    private EntityPersister getEntityPersister() {
+        return entityManager.unwrap(SharedSessionContractImplementor.class).getFactory().getMappingMetamodel()
+                .getEntityDescriptor(getEntityClass());
+    }
+
+    /**
+     * The {@code size <= 0} loads all the records in the first page, so there is no other page and its offset would
+     * overflow.
+     */
+    private void validateUnboundedPage(FilterRequest filter) {
+        if (filter.getSize() <= 0 && filter.getPage() > 0) {
+            throw new IllegalArgumentException("page must be 0 when size is not set");
         }
-        return and.and(or);
     }
 
     /**
@@ -242,15 +880,18 @@ public abstract class BaseService<E extends BaseEntity, I> {
      * @return PageRequest
      */
     private PageRequest getPageRequest(FilterRequest filter) {
+        validateUnboundedPage(filter);
         if (filter.getSize() <= 0) {
             filter.setSize(Integer.MAX_VALUE);
         }
-        Sort sort = Sort.unsorted();
-        if (!CollectionUtils.isEmpty(filter.getSort())) {
-            List<Sort.Order> orders = filter.getSort().stream().map(this::toSQLSort).toList();
-            sort = Sort.by(orders);
+        return PageRequest.of(filter.getPage(), filter.getSize(), toSQLSort(filter.getSort()));
+    }
+
+    private Sort toSQLSort(List<com.smartsensesolutions.commons.dao.filter.sort.Sort> sortList) {
+        if (CollectionUtils.isEmpty(sortList)) {
+            return Sort.unsorted();
         }
-        return PageRequest.of(filter.getPage(), filter.getSize(), sort);
+        return Sort.by(sortList.stream().map(this::toSQLSort).toList());
     }
 
     private Sort.Order toSQLSort(com.smartsensesolutions.commons.dao.filter.sort.Sort sort) {
@@ -260,8 +901,280 @@ public abstract class BaseService<E extends BaseEntity, I> {
         return Sort.Order.desc(sort.column());
     }
 
+    private <R> Stream<R> streamEntities(FilterRequest filter, Function<E, R> mapper) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("stream must be consumed within a transaction");
+        }
+        int fetchSize = properties.getStreamFetchSize();
+        TypedQuery<E> query = createQuery(getSpecificationFromFilterRequest(filter), toSQLSort(filter.getSort()));
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        StatementCapture capture = StatementCapture.current();
+        AtomicLong rows = new AtomicLong();
+        return query.getResultStream().map(entity -> StatementCapture.runWith(capture, () -> {
+            R result = mapper.apply(entity);
+            if (rows.incrementAndGet() % fetchSize == 0) {
+                entityManager.clear();
+            }
+            return result;
+        }));
+    }
+
+    private <R> CompletableFuture<Page<R>> findPageAsync(FilterRequest filter, Function<E, R> mapper) {
+        PageRequest pageRequest = getPageRequest(filter);
+        Specification<E> specification = generateSpecification(filter);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        Executor executor = getAsyncExecutor();
+        StatementCapture capture = StatementCapture.current();
+        CompletableFuture<List<R>> content = CompletableFuture.supplyAsync(() -> StatementCapture.runWith(capture, () ->
+                transactionTemplate.execute(status -> {
+                    stageInLists(filter);
+                    return findContent(specification, pageRequest.getSort(), pageRequest.getOffset(),
+                            pageRequest.getPageSize()).stream().map(mapper).toList();
+                })), executor);
+        CompletableFuture<Long> total = CompletableFuture.supplyAsync(() -> StatementCapture.runWith(capture, () ->
+                transactionTemplate.execute(status -> {
+                    stageInLists(filter);
+                    return getRepository().count(specification);
+                })), executor);
+        return content.thenCombine(total, (list, count) -> new PageImpl<>(list, pageRequest, count));
+    }
+
+    private <R> Slice<R> findSlice(FilterRequest filter, Function<E, R> mapper) {
+        validateUnboundedPage(filter);
+        int size = filter.getSize() > 0 ? filter.getSize() : Integer.MAX_VALUE - 1;
+        PageRequest pageRequest = PageRequest.of(filter.getPage(), size, toSQLSort(filter.getSort()));
+        List<E> entities = findContent(getSpecificationFromFilterRequest(filter), pageRequest.getSort(), pageRequest.getOffset(), size + 1);
+        boolean hasNext = entities.size() > size;
+        if (hasNext) {
+            entities = entities.subList(0, size);
+        }
+        return new SliceImpl<>(entities.stream().map(mapper).toList(), pageRequest, hasNext);
+    }
+
+    private <R> CursorPage<R> findCursorPage(FilterRequest filter, Function<E, R> mapper) {
+        List<com.smartsensesolutions.commons.dao.filter.sort.Sort> keyset = getKeysetSort(filter);
+        String fingerprint = KeysetCursor.fingerprint(keyset, filter);
+        Specification<E> specification = getSpecificationFromFilterRequest(filter);
+        List<String> cursorValues = StringUtils.hasText(filter.getAfter()) ? KeysetCursor.decode(filter.getAfter(), fingerprint) : null;
+        Specification<E> seek = specificationUtil.generateKeysetSpecification(keyset, cursorValues);
+        specification = Objects.isNull(specification) ? seek : specification.and(seek);
+        int size = filter.getSize() > 0 ? filter.getSize() : Integer.MAX_VALUE - 1;
+        List<E> entities = findContent(specification, Sort.unsorted(), 0, size + 1);
+        boolean hasNext = entities.size() > size;
+        if (hasNext) {
+            entities = entities.subList(0, size);
+        }
+        String nextCursor = hasNext ? getCursor(entities.get(entities.size() - 1), keyset, fingerprint) : null;
+        return new CursorPage<>(entities.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * Sort columns of the keyset pagination, the @{@link jakarta.persistence.Id} column is appended as tie-breaker.
+     */
+    private List<com.smartsensesolutions.commons.dao.filter.sort.Sort> getKeysetSort(FilterRequest filter) {
+        String idColumn = getIdAttributeName();
+        List<com.smartsensesolutions.commons.dao.filter.sort.Sort> keyset = new ArrayList<>();
+        if (!CollectionUtils.isEmpty(filter.getSort())) {
+            filter.getSort().stream().filter(sort -> !sort.column().equals(idColumn)).forEach(keyset::add);
+        }
+        SortType idSortType = CollectionUtils.isEmpty(filter.getSort()) ? SortType.ASC : filter.getSort().stream()
+                .filter(sort -> sort.column().equals(idColumn))
+                .map(com.smartsensesolutions.commons.dao.filter.sort.Sort::sortType)
+                .findFirst().orElse(SortType.ASC);
+        keyset.add(new com.smartsensesolutions.commons.dao.filter.sort.Sort(idColumn, idSortType));
+        return keyset;
+    }
+
+    private String getCursor(E entity, List<com.smartsensesolutions.commons.dao.filter.sort.Sort> keyset, String fingerprint) {
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(entity);
+        List<Object> values = keyset.stream().map(sort -> wrapper.getPropertyValue(sort.column())).toList();
+        return KeysetCursor.encode(values, fingerprint);
+    }
+
+    /**
+     * Fetch the page with the singular associations of the fetch plan joined, then initialize its collection
+     * associations in batches so the number of queries does not grow with the page size.
+     */
+    private Page<E> findPage(Specification<E> specification, PageRequest pageRequest, ResolvedFetchPlan fetchPlan) {
+        Page<E> page = getRepository().findAll(specification, pageRequest, fetchPlan.graphPaths());
+        fetchPlanResolver.initialize(page.getContent(), fetchPlan.collectionPaths());
+        return page;
+    }
+
+    private ResolvedFetchPlan resolveFetchPlan(FilterRequest filter) {
+        FetchPlan fetchPlan = filter.getFetchPlan();
+        return Objects.isNull(fetchPlan) ? null : fetchPlanResolver.resolve(getEntityClass(), fetchPlan);
+    }
+
+    /**
+     * Resolve the {@link PagingStrategy#AUTO}, the two phase paging is used when the page query would join a
+     * collection association.
+     */
+    private boolean isTwoPhase(FilterRequest filter, ResolvedFetchPlan fetchPlan) {
+        PagingStrategy strategy = getPagingStrategy();
+        if (!PagingStrategy.AUTO.equals(strategy)) {
+            return PagingStrategy.TWO_PHASE.equals(strategy);
+        }
+        if (Objects.nonNull(fetchPlan) && !fetchPlan.collectionPaths().isEmpty()) {
+            return true;
+        }
+        Stream<String> criteriaPaths = Stream.of(filter.getCriteria(), filter.getOrCriteria())
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .flatMap(criteria -> Arrays.stream(criteria.column().split(",")));
+        Stream<String> sortPaths = Objects.isNull(filter.getSort()) ? Stream.empty()
+                : filter.getSort().stream().map(com.smartsensesolutions.commons.dao.filter.sort.Sort::column);
+        return Stream.concat(criteriaPaths, sortPaths)
+                .map(String::trim)
+                .filter(path -> path.contains("."))
+                .anyMatch(path -> fetchPlanResolver.isCollectionPath(getEntityClass(), path));
+    }
+
+    /**
+     * All the paths of the fetch plan, the collections can be fetched with the entities as the two phase paging does not
+     * limit the entity query.
+     */
+    private List<String> getFetchPaths(ResolvedFetchPlan fetchPlan) {
+        if (Objects.isNull(fetchPlan)) {
+            return List.of();
+        }
+        return Stream.concat(fetchPlan.graphPaths().stream(), fetchPlan.collectionPaths().stream()).toList();
+    }
+
+    /**
+     * Fetch the entities for the given specification with the limit, without any count query.
+     */
+    private List<E> findContent(Specification<E> specification, Sort sort, long offset, int limit) {
+        TypedQuery<E> typedQuery = createQuery(specification, sort);
+        typedQuery.setFirstResult(Math.toIntExact(offset));
+        typedQuery.setMaxResults(limit);
+        return typedQuery.getResultList();
+    }
+
+    private TypedQuery<E> createQuery(Specification<E> specification, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = cb.createQuery(getEntityClass());
+        Root<E> root = query.from(getEntityClass());
+        applySpecification(query, root, specification, sort, cb);
+        return entityManager.createQuery(query);
+    }
+
+    private void applySpecification(CriteriaQuery<?> query, Root<E> root, Specification<E> specification, Sort sort, CriteriaBuilder cb) {
+        if (Objects.nonNull(specification)) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (Objects.nonNull(predicate)) {
+                query.where(predicate);
+            }
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+    }
+
+    /**
+     * Select only the given fields with the tuple query, the count query runs only when the page is full.
+     */
+    private <R> Page<R> findFields(FilterRequest filter, List<String> fields, Function<Tuple, R> mapper) {
+        if (CollectionUtils.isEmpty(fields)) {
+            throw new IllegalArgumentException("fields require for field selection");
+        }
+        PageRequest pageRequest = getPageRequest(filter);
+        Specification<E> specification = getSpecificationFromFilterRequest(filter);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(getEntityClass());
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        query.multiselect(fields.stream().<Selection<?>>map(field -> getFieldPath(root, joins, field)).toList());
+        applySpecification(query, root, specification, pageRequest.getSort(), cb);
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        typedQuery.setFirstResult(Math.toIntExact(pageRequest.getOffset()));
+        typedQuery.setMaxResults(pageRequest.getPageSize());
+        List<R> content = typedQuery.getResultList().stream().map(mapper).toList();
+        return PageableExecutionUtils.getPage(content, pageRequest, () -> getRepository().count(specification));
+    }
+
+    /**
+     * Resolve the path of the field, associations of the dotted path are left joined once per query.
+     */
+    private Path<?> getFieldPath(Root<E> root, Map<String, From<?, ?>> joins, String field) {
+        String[] names = field.split("\\.");
+        try {
+            From<?, ?> from = root;
+            for (int i = 0; i < names.length - 1; i++) {
+                From<?, ?> parent = from;
+                String name = names[i];
+                from = joins.computeIfAbsent(String.join(".", Arrays.copyOfRange(names, 0, i + 1)),
+                        path -> parent.join(name, JoinType.LEFT));
+            }
+            return from.get(names[names.length - 1]);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("invalid field " + field, ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toFieldMap(List<String> fields, Tuple tuple) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            String[] names = fields.get(i).split("\\.");
+            Map<String, Object> target = values;
+            for (int j = 0; j < names.length - 1; j++) {
+                Object nested = target.computeIfAbsent(names[j], name -> new LinkedHashMap<>());
+                if (!(nested instanceof Map)) {
+                    throw new IllegalArgumentException("field " + fields.get(i) + " conflicts with " + names[j]);
+                }
+                target = (Map<String, Object>) nested;
+            }
+            target.put(names[names.length - 1], tuple.get(i));
+        }
+        return toUnmodifiableMap(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toUnmodifiableMap(Map<String, Object> values) {
+        values.replaceAll((name, value) -> value instanceof Map ? toUnmodifiableMap((Map<String, Object>) value) : value);
+        return Collections.unmodifiableMap(values);
+    }
+
+    private <R> R project(E entity, Class<R> clazz) {
+        if (clazz.isInstance(entity)) {
+            return clazz.cast(entity);
+        }
+        if (!clazz.isInterface()) {
+            throw new IllegalArgumentException("projection type must be an interface");
+        }
+        return projectionFactory.createProjection(clazz, entity);
+    }
+
+    private String getIdAttributeName() {
+        EntityType<E> entityType = entityManager.getMetamodel().entity(getEntityClass());
+        if (!entityType.hasSingleIdAttribute()) {
+            throw new IllegalArgumentException("entity with composite id not supported");
+        }
+        return entityType.getId(entityType.getIdType().getJavaType()).getName();
+    }
+
+    /**
+     * Resolve the @{@link jakarta.persistence.Entity} class from the generic type of the service.
+     *
+     * @return Entity class
+     */
+    @SuppressWarnings("unchecked")
+    protected Class<E> getEntityClass() {
+        if (Objects.isNull(entityClass)) {
+            Class<?>[] types = GenericTypeResolver.resolveTypeArguments(ClassUtils.getUserClass(getClass()), BaseService.class);
+            if (Objects.isNull(types) || Objects.isNull(types[0])) {
+                throw new IllegalStateException("unable to resolve entity type of " + getClass().getName());
+            }
+            entityClass = (Class<E>) types[0];
+        }
+        return entityClass;
+    }
+
     public boolean exists(FilterRequest request) {
-        Specification<E> specification = getSpecificationFromFilterRequest(request);
-        return getRepository().exists(specification);
+        return execute("exists", null, request, optimized -> resultCache.getCount(getEntityClass(), "exists", optimized, () ->
+                getRepository().exists(getSpecificationFromFilterRequest(optimized))), () -> false);
     }
 }
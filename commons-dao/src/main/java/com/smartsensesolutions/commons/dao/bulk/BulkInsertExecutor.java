@@ -0,0 +1,266 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.bulk;
+
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.type.Type;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Executes the chunked bulk insert of the entities with bounded memory usage, must be called within a transaction.
+ */
+@Component
+public class BulkInsertExecutor {
+
+    /**
+     * Maximum number of bind parameters in a single statement supported by the JDBC drivers i.e. PostgreSQL.
+     */
+    private static final int MAX_PARAMETERS = 32767;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Check whether the id of the entity is generated by the database on insert i.e. {@code IDENTITY}.
+     *
+     * @param entityClass - Indicates the entity class.
+     * @return boolean
+     */
+    public boolean isIdentityGenerated(Class<?> entityClass) {
+        Generator generator = getPersister(entityClass).getGenerator();
+        return Objects.nonNull(generator) && generator.generatedOnExecution();
+    }
+
+    /**
+     * Check whether the entities can be inserted with the native multi-row insert statement. The statement bypasses
+     * the entity callbacks and listeners, the version initialization and the discriminator of the inheritance, so such
+     * entities are not supported.
+     *
+     * @param entityClass - Indicates the entity class.
+     * @return boolean
+     */
+    public boolean isMultiRowInsertSupported(Class<?> entityClass) {
+        AbstractEntityPersister persister = getPersister(entityClass);
+        return persister.getTableSpan() == 1 && !persister.isVersioned() && !persister.isInherited()
+                && !persister.getEntityMetamodel().hasSubclasses() && !hasPersistCallbacks(entityClass);
+    }
+
+    /**
+     * Insert the entities with the given strategy.
+     *
+     * @param entityClass - Indicates the entity class.
+     * @param entities    - Indicates the entities.
+     * @param chunkSize   - Indicates the number of entities inserted per chunk.
+     * @param strategy    - Indicates the strategy.
+     * @return Number of inserted entities
+     */
+    public <E> long insert(Class<E> entityClass, Iterable<E> entities, int chunkSize, BulkInsertStrategy strategy) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk size must be positive");
+        }
+        if (BulkInsertStrategy.MULTI_ROW_INSERT.equals(strategy)) {
+            if (!isMultiRowInsertSupported(entityClass)) {
+                throw new IllegalArgumentException("multi-row insert not supported for entity with callbacks, version or inheritance");
+            }
+            return insertMultiRow(entityClass, entities, chunkSize);
+        }
+        if (BulkInsertStrategy.AUTO.equals(strategy) && isIdentityGenerated(entityClass) && isMultiRowInsertSupported(entityClass)) {
+            return insertMultiRow(entityClass, entities, chunkSize);
+        }
+        return persist(entities, chunkSize);
+    }
+
+    /**
+     * Persist the entities in chunks with JDBC batching enabled for the session. The inserts of the same table are
+     * batched together by {@code hibernate.order_inserts}, and the persistence context is flushed and cleared after
+     * each chunk.
+     */
+    private <E> long persist(Iterable<E> entities, int chunkSize) {
+        Session session = entityManager.unwrap(Session.class);
+        Integer jdbcBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(chunkSize);
+        long count = 0;
+        try {
+            List<E> chunk = new ArrayList<>(chunkSize);
+            for (E entity : entities) {
+                chunk.add(entity);
+                if (chunk.size() == chunkSize) {
+                    count += persistChunk(chunk);
+                }
+            }
+            count += persistChunk(chunk);
+        } finally {
+            session.setJdbcBatchSize(jdbcBatchSize);
+        }
+        return count;
+    }
+
+    private <E> int persistChunk(List<E> chunk) {
+        int size = chunk.size();
+        if (size == 0) {
+            return 0;
+        }
+        chunk.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+        return size;
+    }
+
+    /**
+     * Insert the entities in chunks with the native multi-row insert statement i.e.
+     * {@code INSERT INTO table (c1, c2) VALUES (?, ?), (?, ?)}. Values are bound with the Hibernate types of the
+     * properties, so converters and enum mappings are honoured. The ids generated by the database are read back from
+     * the generated keys of the statement and set on the entities.
+     */
+    private <E> long insertMultiRow(Class<E> entityClass, Iterable<E> entities, int chunkSize) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        AbstractEntityPersister persister = getPersister(entityClass);
+        boolean identity = isIdentityGenerated(entityClass);
+        Type[] types = persister.getPropertyTypes();
+        boolean[] insertable = persister.getPropertyInsertability();
+        Generator[] generators = persister.getEntityMetamodel().getGenerators();
+        List<Integer> properties = new ArrayList<>();
+        List<String> columns = new ArrayList<>();
+        if (!identity) {
+            columns.addAll(List.of(persister.getIdentifierColumnNames()));
+        }
+        for (int i = 0; i < types.length; i++) {
+            String[] propertyColumns = persister.getPropertyColumnNames(i);
+            if (insertable[i] && !types[i].isCollectionType() && propertyColumns.length > 0) {
+                properties.add(i);
+                columns.addAll(List.of(propertyColumns));
+            }
+        }
+        int rowsPerStatement = Math.max(1, Math.min(chunkSize, MAX_PARAMETERS / columns.size()));
+        String row = "(" + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+        String insert = "INSERT INTO " + persister.getTableName() + " (" + String.join(", ", columns) + ") VALUES ";
+
+        long[] count = {0};
+        List<E> chunk = new ArrayList<>(rowsPerStatement);
+        session.doWork(connection -> {
+            for (E entity : entities) {
+                chunk.add(entity);
+                if (chunk.size() == rowsPerStatement) {
+                    count[0] += executeChunk(connection, insert + String.join(", ", Collections.nCopies(chunk.size(), row)),
+                            chunk, persister, properties, generators, identity, session);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                count[0] += executeChunk(connection, insert + String.join(", ", Collections.nCopies(chunk.size(), row)),
+                        chunk, persister, properties, generators, identity, session);
+            }
+        });
+        return count[0];
+    }
+
+    private <E> int executeChunk(Connection connection, String sql, List<E> chunk, AbstractEntityPersister persister, List<Integer> properties,
+                                 Generator[] generators, boolean identity, SharedSessionContractImplementor session) throws SQLException {
+        try (PreparedStatement statement = identity ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql)) {
+            Type[] types = persister.getPropertyTypes();
+            int index = 1;
+            for (E entity : chunk) {
+                if (!identity) {
+                    Object id = persister.getIdentifier(entity, session);
+                    if (Objects.isNull(id)) {
+                        id = ((BeforeExecutionGenerator) persister.getGenerator()).generate(session, entity, null, EventType.INSERT);
+                        persister.setIdentifier(entity, id, session);
+                    }
+                    persister.getIdentifierType().nullSafeSet(statement, id, index, session);
+                    index += persister.getIdentifierColumnNames().length;
+                }
+                Object[] values = persister.getValues(entity);
+                for (Integer property : properties) {
+                    Object value = values[property];
+                    Generator generator = generators[property];
+                    if (Objects.nonNull(generator) && !generator.generatedOnExecution() && generator.generatesOnInsert()) {
+                        value = ((BeforeExecutionGenerator) generator).generate(session, entity, value, EventType.INSERT);
+                        persister.setValue(entity, property, value);
+                    }
+                    types[property].nullSafeSet(statement, value, index, session);
+                    index += persister.getPropertyColumnNames(property).length;
+                }
+            }
+            statement.executeUpdate();
+            if (identity) {
+                setGeneratedIds(statement, chunk, persister, session);
+            }
+            int size = chunk.size();
+            chunk.clear();
+            return size;
+        }
+    }
+
+    /**
+     * Set the generated ids on the entities, the generated keys are returned in the order of the inserted rows.
+     */
+    private <E> void setGeneratedIds(PreparedStatement statement, List<E> chunk, AbstractEntityPersister persister,
+                                     SharedSessionContractImplementor session) throws SQLException {
+        String idColumn = persister.getIdentifierColumnNames()[0];
+        Class<?> idType = persister.getIdentifierType().getReturnedClass();
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            for (E entity : chunk) {
+                if (!keys.next()) {
+                    throw new IllegalStateException("generated id not returned for all inserted rows");
+                }
+                persister.setIdentifier(entity, keys.getObject(idColumn, idType), session);
+            }
+        }
+    }
+
+    private boolean hasPersistCallbacks(Class<?> entityClass) {
+        for (Class<?> type = entityClass; Objects.nonNull(type) && !Object.class.equals(type); type = type.getSuperclass()) {
+            EntityListeners listeners = type.getAnnotation(EntityListeners.class);
+            if (Objects.nonNull(listeners) && listeners.value().length > 0) {
+                return true;
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(PrePersist.class) || method.isAnnotationPresent(PostPersist.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private AbstractEntityPersister getPersister(Class<?> entityClass) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        return (AbstractEntityPersister) session.getFactory().getMappingMetamodel().getEntityDescriptor(entityClass);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.bulk;
+
+/**
+ * Supported strategies for the bulk insert of entities.
+ */
+public enum BulkInsertStrategy {
+
+    /**
+     * Persist the entities in chunks with JDBC batching, ids and associations are handled by JPA. Hibernate can not
+     * batch the inserts of entities with {@code IDENTITY} id generation.
+     */
+    PERSIST,
+
+    /**
+     * Insert the entities in chunks with native multi-row {@code INSERT} statements. Only the columns of the entity
+     * table are inserted (i.e. no join table of the associations), the generated ids are set back on the entities.
+     * Entities with callbacks or listeners, {@code @Version} or inheritance are not supported.
+     */
+    MULTI_ROW_INSERT,
+
+    /**
+     * Use {@link #MULTI_ROW_INSERT} for entities with {@code IDENTITY} id generation if supported, otherwise
+     * {@link #PERSIST}.
+     */
+    AUTO
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.cache;
+
+/**
+ * Snapshot of the statistics of the {@link LruCache}.
+ *
+ * @param hitCount      - Indicates the number of lookups which found the value.
+ * @param missCount     - Indicates the number of lookups which did not find the value.
+ * @param evictionCount - Indicates the number of entries evicted by the size bound or expired.
+ * @param size          - Indicates the current number of entries.
+ */
+public record CacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+
+    public static CacheStatistics of(LruCache<?, ?> cache) {
+        return new CacheStatistics(cache.getHitCount(), cache.getMissCount(), cache.getEvictionCount(), cache.size());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.cache;
+
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.filter.Criteria;
+import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.filter.sort.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the field results and counts of {@link com.smartsensesolutions.commons.dao.base.BaseService}, enabled with
+ * {@code smartsense.commons.dao.cache.enabled}.
+ * <p>
+ * Entries are keyed by the canonical form of the {@link FilterRequest}, the projection class and the version of the
+ * entity. The version is bumped by each write of the {@code BaseService}, so the entries of the entity are no longer
+ * reachable and age out of the LRU cache. Writes which bypass the {@code BaseService}, e.g. direct repository calls,
+ * are visible only once the entries expire, or after {@link #invalidate(Class)} is called.
+ * <p>
+ * The cached results are returned as they are to every thread and request which hits the entry, so only immutable
+ * values detached from the persistence context must be cached, i.e. the records and unmodifiable maps of the selected
+ * fields. Entities and the projections backed by them are never cached, as they are managed by the persistence context
+ * of the loading request and would be shared and modified across the callers.
+ */
+@Component
+public class FilterResultCache {
+
+    private final boolean enabled;
+    private final LruCache<String, Object> results;
+    private final LruCache<String, Object> counts;
+    private final Map<Class<?>, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public FilterResultCache(CommonsDaoProperties properties) {
+        CommonsDaoProperties.Cache cache = properties.getCache();
+        this.enabled = cache.isEnabled();
+        this.results = new LruCache<>(cache.getMaximumSize(), cache.getTtl());
+        this.counts = new LruCache<>(cache.getMaximumSize(), cache.getCountTtl());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get the cached filter result, load and cache it if not present. The result must be immutable and must not hold
+     * any entity.
+     *
+     * @param entityType - Indicates the entity class.
+     * @param filter     - Indicates the FilterRequest.
+     * @param projection - Indicates the class of the selected fields i.e. the record class or {@code Map}.
+     * @param loader     - Indicates the supplier used to load the result.
+     * @return Filter result
+     */
+    public <T> T getResult(Class<?> entityType, FilterRequest filter, Class<?> projection, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return get(results, getKey(entityType, "filter", projection, filter, true), loader);
+    }
+
+    /**
+     * Get the cached count result, load and cache it if not present. Counts are cached separately from the filter
+     * results with their own time to live.
+     *
+     * @param entityType - Indicates the entity class.
+     * @param operation  - Indicates the operation name, i.e. {@code count} or {@code exists}.
+     * @param filter     - Indicates the FilterRequest, only criteria parameters are part of the key.
+     * @param loader     - Indicates the supplier used to load the result.
+     * @return Count result
+     */
+    public <T> T getCount(Class<?> entityType, String operation, FilterRequest filter, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return get(counts, getKey(entityType, operation, null, filter, false), loader);
+    }
+
+    /**
+     * Invalidate the cached results of the entity, must be called after the write. When called within a transaction,
+     * the entity is invalidated once more after the transaction completes, so the results loaded concurrently before
+     * the commit are not reused.
+     *
+     * @param entityType - Indicates the entity class.
+     */
+    public void invalidate(Class<?> entityType) {
+        if (!enabled) {
+            return;
+        }
+        AtomicLong version = getVersion(entityType);
+        version.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Remove all the cached results.
+     */
+    public void clear() {
+        results.clear();
+        counts.clear();
+    }
+
+    public CacheStatistics getResultStatistics() {
+        return CacheStatistics.of(results);
+    }
+
+    public CacheStatistics getCountStatistics() {
+        return CacheStatistics.of(counts);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(LruCache<String, Object> cache, String key, Supplier<T> loader) {
+        Object value = cache.get(key);
+        if (value == null) {
+            value = loader.get();
+            if (value != null) {
+                cache.put(key, value);
+            }
+        }
+        return (T) value;
+    }
+
+    private AtomicLong getVersion(Class<?> entityType) {
+        return versions.computeIfAbsent(entityType, type -> new AtomicLong());
+    }
+
+    /**
+     * Canonical form of the FilterRequest, criteria of the same group are ordered as they are commutative.
+     */
+    private String getKey(Class<?> entityType, String operation, Class<?> projection, FilterRequest filter, boolean paged) {
+        StringBuilder key = new StringBuilder(entityType.getName())
+                .append('@').append(getVersion(entityType).get())
+                .append('|').append(operation)
+                .append('|').append(projection == null ? "" : projection.getName())
+                .append('|').append(filter.getCriteriaOperator())
+                .append('|').append(toKey(filter.getCriteria()))
+                .append('|').append(toKey(filter.getOrCriteria()));
+        if (paged) {
+            key.append('|').append(filter.getPage())
+                    .append('|').append(filter.getSize())
+                    .append('|').append(filter.getAfter())
+                    .append('|').append(filter.getFields())
+                    .append('|').append(filter.getFetchPlan());
+            if (filter.getSort() != null) {
+                for (Sort sort : filter.getSort()) {
+                    key.append('|').append(sort.column()).append(' ').append(sort.sortType());
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    private String toKey(List<Criteria> criteriaList) {
+        if (criteriaList == null || criteriaList.isEmpty()) {
+            return "";
+        }
+        return criteriaList.stream()
+                .map(criteria -> criteria.column() + ' ' + criteria.operator() + ' ' + criteria.values())
+                .sorted()
+                .toList()
+                .toString();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Size bounded cache which evicts the least recently used entry once the maximum size is reached. Entries can
+ * optionally expire after the given time to live since they were stored.
+ *
+ * @param <K> - Indicates the key type.
+ * @param <V> - Indicates the value type.
+ */
+public class LruCache<K, V> {
+
+    private final Map<K, Node<V>> entries;
+    private final long timeToLiveNanos;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param maximumSize - Indicates the maximum number of entries.
+     */
+    public LruCache(int maximumSize) {
+        this(maximumSize, null);
+    }
+
+    /**
+     * @param maximumSize - Indicates the maximum number of entries.
+     * @param timeToLive  - Indicates the time to live of each entry, {@code null} if the entries never expire.
+     */
+    public LruCache(int maximumSize, Duration timeToLive) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximum size must be positive");
+        }
+        if (timeToLive != null && (timeToLive.isNegative() || timeToLive.isZero())) {
+            throw new IllegalArgumentException("time to live must be positive");
+        }
+        this.timeToLiveNanos = timeToLive == null ? 0 : timeToLive.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Node<V>> eldest) {
+                if (size() > maximumSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the value of the key.
+     *
+     * @param key - Indicates the key.
+     * @return Value, {@code null} if not present or expired.
+     */
+    public V get(K key) {
+        V value = null;
+        synchronized (entries) {
+            Node<V> node = entries.get(key);
+            if (node != null) {
+                if (isExpired(node)) {
+                    entries.remove(key);
+                    evictionCount.increment();
+                } else {
+                    value = node.value();
+                }
+            }
+        }
+        (value == null ? missCount : hitCount).increment();
+        return value;
+    }
+
+    /**
+     * Get the value of the key, compute and store it if not present. The value is computed outside the lock, so it
+     * may be computed more than once by concurrent callers and the first stored value wins.
+     *
+     * @param key    - Indicates the key.
+     * @param loader - Indicates the function used to compute the value.
+     * @return Value
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        V computed = loader.apply(key);
+        synchronized (entries) {
+            Node<V> existing = entries.get(key);
+            if (existing != null && !isExpired(existing)) {
+                return existing.value();
+            }
+            entries.put(key, newNode(computed));
+            return computed;
+        }
+    }
+
+    /**
+     * Store the value of the key.
+     *
+     * @param key   - Indicates the key.
+     * @param value - Indicates the value.
+     */
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, newNode(value));
+        }
+    }
+    /**
+     * Remove the value of the key.
+     *
+     * @param key - Indicates the key.
+     */
+    public void remove(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Remove all the entries.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private Node<V> newNode(V value) {
+        return new Node<>(value, timeToLiveNanos == 0 ? 0 : System.nanoTime() + timeToLiveNanos);
+    }
+
+    private boolean isExpired(Node<V> node) {
+        return timeToLiveNanos != 0 && System.nanoTime() - node.expiresAt() > 0;
+    }
+
+    private record Node<V>(V value, long expiresAt) {
+    }
+}
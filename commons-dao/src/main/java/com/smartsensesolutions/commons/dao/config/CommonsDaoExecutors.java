@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Default executor of commons-dao. Each async task holds a connection of the datasource, so the number of the tasks
+ * running at the same time is limited by {@code smartsense.commons.dao.async.max-concurrency}, capped at the maximum
+ * pool size of the Hikari datasource. Up to {@code smartsense.commons.dao.async.queue-capacity} more tasks wait for
+ * their turn, further tasks are rejected with the {@link TaskRejectedException} without blocking the submitting thread.
+ */
+@Component
+public class CommonsDaoExecutors implements DisposableBean {
+
+    private static final String THREAD_NAME_PREFIX = "commons-dao-";
+
+    private final TaskExecutor executor;
+
+    public CommonsDaoExecutors(CommonsDaoProperties properties, ObjectProvider<DataSource> dataSource) {
+        CommonsDaoProperties.Async async = properties.getAsync();
+        if (async.getQueueCapacity() < 0) {
+            throw new IllegalArgumentException("async queue capacity must not be negative");
+        }
+        this.executor = createExecutor(getConcurrency(async.getMaxConcurrency(), dataSource.getIfUnique()), async.getQueueCapacity());
+    }
+
+    /**
+     * Default executor used by the async filter API. It starts a virtual thread per task with the concurrency limit,
+     * and falls back to the bounded thread pool when the runtime does not support virtual threads (JDK &lt; 21).
+     *
+     * @return Executor
+     */
+    public Executor getDefaultExecutor() {
+        return executor;
+    }
+
+    private static int getConcurrency(int maxConcurrency, DataSource dataSource) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("async max concurrency must be greater than 0");
+        }
+        HikariConfigMXBean pool = Objects.isNull(dataSource) ? null
+                : DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        return Objects.isNull(pool) ? maxConcurrency : Math.min(maxConcurrency, pool.getMaximumPoolSize());
+    }
+
+    /**
+     * The concurrency limit of the {@link SimpleAsyncTaskExecutor} blocks the submitting thread until a task completes,
+     * so the virtual thread tasks are bounded by the semaphores instead, the waiting tasks block only their own virtual
+     * thread. The thread pool rejects the tasks once its bounded queue is full.
+     */
+    private static TaskExecutor createExecutor(int concurrency, int queueCapacity) {
+        SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+        try {
+            virtualExecutor.setVirtualThreads(true);
+            return new BoundedTaskExecutor(virtualExecutor, concurrency, queueCapacity);
+        } catch (UnsupportedOperationException ex) {
+            ThreadPoolTaskExecutor poolExecutor = new ThreadPoolTaskExecutor();
+            poolExecutor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+            poolExecutor.setCorePoolSize(concurrency);
+            poolExecutor.setMaxPoolSize(concurrency);
+            poolExecutor.setQueueCapacity(queueCapacity);
+            poolExecutor.setAllowCoreThreadTimeOut(true);
+            poolExecutor.initialize();
+            return poolExecutor;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor poolExecutor) {
+            poolExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Runs at most {@code concurrency} tasks at the same time with up to {@code queueCapacity} more tasks waiting, and
+     * rejects the other tasks immediately.
+     */
+    private static final class BoundedTaskExecutor implements TaskExecutor {
+
+        private final TaskExecutor delegate;
+        private final Semaphore admitted;
+        private final Semaphore running;
+
+        private BoundedTaskExecutor(TaskExecutor delegate, int concurrency, int queueCapacity) {
+            this.delegate = delegate;
+            this.admitted = new Semaphore(concurrency + queueCapacity);
+            this.running = new Semaphore(concurrency);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (!admitted.tryAcquire()) {
+                throw new TaskRejectedException("commons-dao async queue is full");
+            }
+            try {
+                delegate.execute(() -> run(task));
+            } catch (RuntimeException ex) {
+                admitted.release();
+                throw ex;
+            }
+        }
+
+        private void run(Runnable task) {
+            try {
+                running.acquire();
+            } catch (InterruptedException ex) {
+                admitted.release();
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                task.run();
+            } finally {
+                running.release();
+                admitted.release();
+            }
+        }
+    }
+}
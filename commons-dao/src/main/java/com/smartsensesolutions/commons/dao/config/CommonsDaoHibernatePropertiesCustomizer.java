@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.config;
+
+import com.smartsensesolutions.commons.dao.statement.SqlCaptureSessionEventListener;
+import com.smartsensesolutions.commons.dao.statement.SqlCaptureStatementInspector;
+import com.smartsensesolutions.commons.dao.statement.StatementCaptureIntegrator;
+import com.smartsensesolutions.commons.dao.specification.text.TextSearchFunctionContributor;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Passes the commons-dao configuration required while bootstrapping Hibernate, e.g. by the
+ * {@link TextSearchFunctionContributor}, the batch fetch size, the in clause padding and the insert ordering of the bulk insert to the Hibernate properties. Registers the SQL capture
+ * of the slow filter log and the statement guard when enabled.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommonsDaoHibernatePropertiesCustomizer implements HibernatePropertiesCustomizer {
+
+    private final CommonsDaoProperties properties;
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.putIfAbsent(TextSearchFunctionContributor.TEXT_SEARCH_CONFIG, properties.getTextSearch().getConfig());
+        if (properties.getInList().isPadding()) {
+            hibernateProperties.putIfAbsent(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, true);
+        }
+        hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+        if (properties.getFetchBatchSize() > 0) {
+            hibernateProperties.putIfAbsent(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, properties.getFetchBatchSize());
+        }
+        if (properties.getSlowLog().isEnabled() || properties.getStatementGuard().isEnabled()) {
+            hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new SqlCaptureStatementInspector());
+            hibernateProperties.putIfAbsent(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlCaptureSessionEventListener.class.getName());
+            hibernateProperties.putIfAbsent(StatementCaptureIntegrator.STATEMENT_CAPTURE, true);
+        }
+    }
+}
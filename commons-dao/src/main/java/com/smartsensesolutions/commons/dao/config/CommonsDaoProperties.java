@@ -0,0 +1,314 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.config;
+
+import com.smartsensesolutions.commons.dao.paging.PagingStrategy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration of commons-dao, all the properties are prefixed with {@code smartsense.commons.dao}.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "smartsense.commons.dao")
+public class CommonsDaoProperties {
+
+    /**
+     * Indicates the JDBC fetch size of the forward-only scroll used by {@code BaseService.stream}.
+     */
+    private int streamFetchSize = 500;
+
+    /**
+     * Indicates the maximum number of compiled filter plans kept in the LRU cache of {@code FilterPlanCache}.
+     */
+    private int planCacheSize = 1024;
+
+    /**
+     * Indicates whether the FilterRequest is rewritten into the canonical form by {@code FilterRequestOptimizer} before
+     * the specification is generated. Disabled by default.
+     */
+    private boolean optimizeFilter = false;
+
+    /**
+     * Indicates the {@code hibernate.default_batch_fetch_size}, the lazy and secondary loaded associations of up to
+     * this many entities are loaded with one query instead of one query per entity. Opt-in as it applies to all the
+     * associations of the application, {@code 0}, the default, keeps the Hibernate default.
+     */
+    private int fetchBatchSize = 0;
+
+    /**
+     * Indicates the default strategy of the page query of {@code BaseService}, can be overridden per service. The
+     * {@code TWO_PHASE} and {@code AUTO} strategies are opt-in.
+     */
+    private PagingStrategy pagingStrategy = PagingStrategy.OFFSET;
+
+    /**
+     * Indicates the configuration of the default executor of the async filter API.
+     */
+    private final Async async = new Async();
+
+    /**
+     * Indicates the configuration of the multi-get of {@code BaseService.get} by ids.
+     */
+    private final MultiGet multiGet = new MultiGet();
+
+    /**
+     * Indicates the configuration of the filter result and count cache of {@code BaseService}.
+     */
+    private final Cache cache = new Cache();
+
+    /**
+     * Indicates the configuration of the {@code IN} and {@code NOT_IN} operators.
+     */
+    private final InList inList = new InList();
+
+    /**
+     * Indicates the configuration of the {@code STARTS_WITH} and {@code ENDS_WITH} operators.
+     */
+    private final StringMatch stringMatch = new StringMatch();
+
+    /**
+     * Indicates the configuration of the {@code FULL_TEXT} and {@code SIMILAR} operators.
+     */
+    private final TextSearch textSearch = new TextSearch();
+
+    /**
+     * Indicates the configuration of the {@code FilterUsageRecorder}.
+     */
+    private final Usage usage = new Usage();
+
+    /**
+     * Indicates the configuration of the Micrometer instrumentation of {@code BaseService}.
+     */
+    private final Metrics metrics = new Metrics();
+
+    /**
+     * Indicates the configuration of the {@code SlowFilterLogger}.
+     */
+    private final SlowLog slowLog = new SlowLog();
+
+    /**
+     * Indicates the configuration of the {@code StatementGuard}.
+     */
+    private final StatementGuard statementGuard = new StatementGuard();
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * Indicates whether the results of {@code filterFields}, {@code count} and {@code exists} are cached, the
+         * entity results of {@code filter} are not cached.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Indicates the maximum number of cached filter results and the maximum number of cached counts.
+         */
+        private int maximumSize = 1000;
+
+        /**
+         * Indicates the time to live of the cached filter results.
+         */
+        private Duration ttl = Duration.ofSeconds(10);
+
+        /**
+         * Indicates the time to live of the cached counts and exists results.
+         */
+        private Duration countTtl = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Async {
+
+        /**
+         * Indicates the maximum number of the async tasks running at the same time, capped at the maximum pool size of
+         * the Hikari datasource as each task holds a connection.
+         */
+        private int maxConcurrency = 10;
+
+        /**
+         * Indicates the maximum number of the async tasks waiting for the {@code maxConcurrency}, further tasks are
+         * rejected with the {@link org.springframework.core.task.TaskRejectedException} instead of blocking the caller.
+         */
+        private int queueCapacity = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class MultiGet {
+
+        /**
+         * Indicates the maximum number of ids loaded by one statement, rounded down to a power of two. The ids of the
+         * last chunk are padded to the next power of two.
+         */
+        private int chunkSize = 512;
+
+        /**
+         * Indicates the number of chunks loaded concurrently by the async executor of the service, {@code 1} to load
+         * the chunks one after another on the calling thread.
+         */
+        private int parallelism = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class InList {
+
+        /**
+         * Indicates the {@code hibernate.query.in_clause_parameter_padding}, the inlined values are padded to the next
+         * power of two so the lists of similar size share the statement. Disabled by default as it applies to all the
+         * queries of the application.
+         */
+        private boolean padding = false;
+
+        /**
+         * Indicates the number of values above which the values are bound as one array parameter on PostgreSQL and H2,
+         * {@code 0}, the default, to always inline the values.
+         */
+        private int arrayThreshold = 0;
+
+        /**
+         * Indicates the number of values above which the integral and string values are staged into the temporary
+         * table on PostgreSQL and H2, {@code 0}, the default, to never stage the values.
+         */
+        private int tempTableThreshold = 0;
+    }
+
+    @Getter
+    @Setter
+    public static class StringMatch {
+
+        /**
+         * Indicates whether the prefix and suffix are matched case-insensitively with {@code lower(col)}, the index
+         * must be created on {@code lower(col)} as well. Otherwise the field is matched as it is.
+         */
+        private boolean ignoreCase = true;
+
+        /**
+         * Indicates whether the suffix is matched as the prefix of {@code reverse(col)}, so a {@code reverse(col)}
+         * functional index can serve {@code ENDS_WITH}. The database must support the {@code reverse} function.
+         */
+        private boolean reverseSuffix = false;
+    }
+
+    @Getter
+    @Setter
+    public static class TextSearch {
+
+        /**
+         * Indicates the PostgreSQL text search configuration used by {@code to_tsvector} and {@code plainto_tsquery},
+         * it must match the configuration of the full text index.
+         */
+        private String config = "simple";
+
+        /**
+         * Indicates whether the records are ordered by the relevance score of the text search criteria when the
+         * FilterRequest has no sort.
+         */
+        private boolean relevanceOrder = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Usage {
+
+        /**
+         * Indicates whether the criteria, sort and join usage of the FilterRequests is recorded.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Indicates the maximum number of recorded patterns, the new patterns are dropped once it is reached.
+         */
+        private int maximumPatterns = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class Metrics {
+
+        /**
+         * Indicates whether the {@code BaseService} operations are observed, requires a {@code MeterRegistry} or an
+         * {@code ObservationRegistry} bean. Disabled by default.
+         */
+        private boolean enabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class SlowLog {
+
+        /**
+         * Indicates whether the FilterRequest operations slower than the threshold are logged, the generated SQL is
+         * captured by a Hibernate statement inspector registered while bootstrapping.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Indicates the elapsed time above which the operation is logged.
+         */
+        private Duration threshold = Duration.ofSeconds(1);
+
+        /**
+         * Indicates the fraction, between 0 and 1, of the slow operations that are logged.
+         */
+        private double sampleRate = 1.0;
+
+        /**
+         * Indicates the maximum number of slow operations logged per minute.
+         */
+        private int maxEventsPerMinute = 60;
+
+        /**
+         * Indicates whether the execution plan of the slowest statement is attached to the log event.
+         */
+        private boolean explain = false;
+    }
+
+    @Getter
+    @Setter
+    public static class StatementGuard {
+
+        /**
+         * Indicates whether the JDBC statements executed by each {@code BaseService} operation are counted, the
+         * generated SQL is captured by a Hibernate statement inspector registered while bootstrapping.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Indicates the maximum number of statements executed by one operation before the {@code action} is taken.
+         */
+        private int maxStatements = 10;
+
+        /**
+         * Indicates whether the operation exceeding {@code max-statements} is logged or fails.
+         */
+        private Action action = Action.WARN;
+
+        public enum Action {
+            WARN, THROW
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.fetch;
+
+import com.smartsensesolutions.commons.dao.filter.FetchPlan;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.AttributeNode;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import org.hibernate.Hibernate;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the {@link FetchPlan} of the FilterRequest into the fetch graph of the query and the collection paths
+ * initialized after the query.
+ */
+@Component
+public class FetchPlanResolver {
+
+    private static final int MAX_DEPTH = 5;
+
+    private final Map<Class<?>, List<String>> eagerPaths = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param entityType - Indicates the entity class.
+     * @param fetchPlan  - Indicates the FetchPlan.
+     * @return ResolvedFetchPlan
+     */
+    public ResolvedFetchPlan resolve(Class<?> entityType, FetchPlan fetchPlan) {
+        EntityType<?> entity = entityManager.getMetamodel().entity(entityType);
+        Set<String> paths = new LinkedHashSet<>(StringUtils.hasText(fetchPlan.graph())
+                ? getGraphPaths(entityManager.getEntityGraph(fetchPlan.graph()))
+                : eagerPaths.computeIfAbsent(entityType, type -> getEagerPaths(entity)));
+        if (!CollectionUtils.isEmpty(fetchPlan.fetch())) {
+            for (String path : fetchPlan.fetch()) {
+                // the parent associations of the path are fetched too
+                String[] names = path.split("\\.");
+                for (int i = 1; i <= names.length; i++) {
+                    paths.add(String.join(".", List.of(names).subList(0, i)));
+                }
+            }
+        }
+        if (!CollectionUtils.isEmpty(fetchPlan.skip())) {
+            paths.removeIf(path -> fetchPlan.skip().stream().anyMatch(skip -> path.equals(skip) || path.startsWith(skip + ".")));
+        }
+        List<String> graphPaths = new ArrayList<>();
+        List<String> collectionPaths = new ArrayList<>();
+        for (String path : paths) {
+            if (isCollectionPath(entity, path)) {
+                collectionPaths.add(path);
+            } else {
+                graphPaths.add(path);
+            }
+        }
+        if (graphPaths.isEmpty()) {
+            graphPaths.add(entity.getId(entity.getIdType().getJavaType()).getName());
+        }
+        return new ResolvedFetchPlan(graphPaths, collectionPaths);
+    }
+
+    /**
+     * Initialize the collection paths of the entities, the collections of the same path are loaded in batches.
+     *
+     * @param entities        - Indicates the loaded entities.
+     * @param collectionPaths - Indicates the collection paths of the ResolvedFetchPlan.
+     */
+    public void initialize(Collection<?> entities, List<String> collectionPaths) {
+        for (String path : collectionPaths) {
+            String[] names = path.split("\\.");
+            for (Object entity : entities) {
+                initialize(entity, names, 0);
+            }
+        }
+    }
+
+    private void initialize(Object entity, String[] names, int index) {
+        if (Objects.isNull(entity) || index == names.length) {
+            return;
+        }
+        Object value = new BeanWrapperImpl(entity).getPropertyValue(names[index]);
+        Hibernate.initialize(value);
+        if (value instanceof Collection<?> collection) {
+            collection.forEach(element -> initialize(element, names, index + 1));
+        } else {
+            initialize(value, names, index + 1);
+        }
+    }
+
+    /**
+     * Check whether the attribute path goes through a collection association, such paths multiply the rows of the root
+     * entity when joined.
+     *
+     * @param entityType - Indicates the entity class.
+     * @param path       - Indicates the dotted attribute path.
+     * @return boolean
+     */
+    public boolean isCollectionPath(Class<?> entityType, String path) {
+        return isCollectionPath(entityManager.getMetamodel().entity(entityType), path);
+    }
+
+    private boolean isCollectionPath(ManagedType<?> type, String path) {
+        ManagedType<?> current = type;
+        for (String name : path.split("\\.")) {
+            if (Objects.isNull(current)) {
+                throw new IllegalArgumentException("invalid path " + path);
+            }
+            Attribute<?, ?> attribute;
+            try {
+                attribute = current.getAttribute(name);
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("invalid path " + path, ex);
+            }
+            if (attribute.isCollection()) {
+                return true;
+            }
+            current = getManagedType(attribute);
+        }
+        return false;
+    }
+
+    private List<String> getEagerPaths(ManagedType<?> type) {
+        List<String> paths = new ArrayList<>();
+        addEagerPaths(type, "", paths, new HashSet<>(), 0);
+        return List.copyOf(paths);
+    }
+
+    private void addEagerPaths(ManagedType<?> type, String prefix, List<String> paths, Set<ManagedType<?>> visited, int depth) {
+        if (depth == MAX_DEPTH || !visited.add(type)) {
+            return;
+        }
+        for (Attribute<?, ?> attribute : type.getAttributes()) {
+            if (attribute.isAssociation() && isEager(attribute)) {
+                String path = prefix + attribute.getName();
+                paths.add(path);
+                ManagedType<?> target = getManagedType(attribute);
+                if (Objects.nonNull(target)) {
+                    addEagerPaths(target, path + ".", paths, visited, depth + 1);
+                }
+            }
+        }
+        visited.remove(type);
+    }
+
+    private boolean isEager(Attribute<?, ?> attribute) {
+        if (!(attribute.getJavaMember() instanceof AnnotatedElement member)) {
+            return false;
+        }
+        if (member.isAnnotationPresent(ManyToOne.class)) {
+            return member.getAnnotation(ManyToOne.class).fetch() == FetchType.EAGER;
+        }
+        if (member.isAnnotationPresent(OneToOne.class)) {
+            return member.getAnnotation(OneToOne.class).fetch() == FetchType.EAGER;
+        }
+        if (member.isAnnotationPresent(OneToMany.class)) {
+            return member.getAnnotation(OneToMany.class).fetch() == FetchType.EAGER;
+        }
+        if (member.isAnnotationPresent(ManyToMany.class)) {
+            return member.getAnnotation(ManyToMany.class).fetch() == FetchType.EAGER;
+        }
+        if (member.isAnnotationPresent(ElementCollection.class)) {
+            return member.getAnnotation(ElementCollection.class).fetch() == FetchType.EAGER;
+        }
+        return false;
+    }
+
+    private ManagedType<?> getManagedType(Attribute<?, ?> attribute) {
+        Type<?> type = attribute instanceof PluralAttribute<?, ?, ?> plural ? plural.getElementType()
+                : ((SingularAttribute<?, ?>) attribute).getType();
+        return type instanceof ManagedType<?> managedType ? managedType : null;
+    }
+
+    private List<String> getGraphPaths(EntityGraph<?> graph) {
+        List<String> paths = new ArrayList<>();
+        addGraphPaths(graph.getAttributeNodes(), "", paths);
+        return paths;
+    }
+
+    private void addGraphPaths(List<AttributeNode<?>> nodes, String prefix, List<String> paths) {
+        for (AttributeNode<?> node : nodes) {
+            String path = prefix + node.getAttributeName();
+            paths.add(path);
+            for (Subgraph<?> subgraph : node.getSubgraphs().values()) {
+                addGraphPaths(subgraph.getAttributeNodes(), path + ".", paths);
+            }
+        }
+    }
+}
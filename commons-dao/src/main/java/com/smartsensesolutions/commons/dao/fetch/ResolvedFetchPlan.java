@@ -0,0 +1,31 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.fetch;
+
+import java.util.List;
+
+/**
+ * {@link com.smartsensesolutions.commons.dao.filter.FetchPlan} resolved against the entity metamodel.
+ *
+ * @param graphPaths      - Indicates the paths of the fetch graph of the query, singular associations only so the
+ *                        pagination is applied by the database. Never empty, the id attribute is used when no
+ *                        association is fetched so the EAGER associations are not loaded.
+ * @param collectionPaths - Indicates the paths through a collection association, initialized after the query in
+ *                        batches of {@code hibernate.default_batch_fetch_size}.
+ */
+public record ResolvedFetchPlan(List<String> graphPaths, List<String> collectionPaths) {
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.filter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fetch plan of the associations loaded with the entities of the
+ * {@link com.smartsensesolutions.commons.dao.base.BaseService} filter, so a response loads exactly the graph it
+ * serialises. The plan starts from the @{@link jakarta.persistence.NamedEntityGraph} {@code graph}, or from the
+ * {@code EAGER} associations of the entity when no graph is provided, then adds the {@code fetch} paths and removes the
+ * {@code skip} paths. Associations outside the plan are not loaded.
+ *
+ * @param graph - Indicates the name of the @{@link jakarta.persistence.NamedEntityGraph}, optional.
+ * @param fetch - Indicates the association paths to fetch i.e. {@code books} or {@code address.country}.
+ * @param skip  - Indicates the association paths not to fetch, including the paths below them.
+ */
+public record FetchPlan(String graph, List<String> fetch, List<String> skip) {
+
+    /**
+     * @param name - Indicates the name of the @{@link jakarta.persistence.NamedEntityGraph}.
+     * @return FetchPlan
+     */
+    public static FetchPlan graph(String name) {
+        return new FetchPlan(name, null, null);
+    }
+
+    /**
+     * @param paths - Indicates the association paths to fetch in addition to the EAGER associations.
+     * @return FetchPlan
+     */
+    public static FetchPlan fetch(String... paths) {
+        return new FetchPlan(null, Arrays.asList(paths), null);
+    }
+
+    /**
+     * @param paths - Indicates the EAGER association paths not to fetch.
+     * @return FetchPlan
+     */
+    public static FetchPlan skip(String... paths) {
+        return new FetchPlan(null, null, Arrays.asList(paths));
+    }
+}
@@ -73,6 +73,24 @@ public class FilterRequest {
     @Valid
     private List<Criteria> orCriteria;
 
+    /**
+     * Indicates the keyset cursor returned as {@code nextCursor} of the previous page, used by the cursor based
+     * pagination instead of the {@code page} number.
+     */
+    private String after;
+
+    /**
+     * Indicates the entity fields, including the dotted path of the association i.e. {@code address.city}, selected by
+     * {@code BaseService.filterFields} instead of the whole entity.
+     */
+    private List<String> fields;
+
+    /**
+     * Indicates the associations loaded with the entities by the {@code BaseService.filter} methods, the mapped fetch
+     * type is used when not provided.
+     */
+    private FetchPlan fetchPlan;
+
     /**
      * Append ascending order by for provided fields
      *
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.filter.cursor;
+
+import java.util.List;
+
+/**
+ * Page response of the keyset (seek) pagination.
+ *
+ * @param content    - Indicates the records of the current page.
+ * @param nextCursor - Opaque cursor that needs to be passed as {@code after} in the next
+ *                   {@link com.smartsensesolutions.commons.dao.filter.FilterRequest}, {@code null} on the last page.
+ * @param hasNext    - Indicates whether a next page is available.
+ * @param <T>        - Indicates the type of the records.
+ */
+public record CursorPage<T>(List<T> content, String nextCursor, boolean hasNext) {
+}
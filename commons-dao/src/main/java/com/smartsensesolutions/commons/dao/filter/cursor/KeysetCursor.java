@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.filter.cursor;
+
+import com.smartsensesolutions.commons.dao.filter.Criteria;
+import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.filter.sort.Sort;
+import com.smartsensesolutions.commons.dao.filter.sort.SortType;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * Encodes and decodes the opaque keyset cursor used by the seek pagination.
+ * <p>
+ * The cursor holds the values of the sort columns followed by the value of the @{@link jakarta.persistence.Id} column
+ * of the last record of a page. Values are kept in the same string form that is accepted as {@code Criteria} values,
+ * i.e. {@link Timestamp} as ISO-8601 instant with the nanoseconds, other {@link Date} as epoch millis and enum as
+ * constant name, so the seek predicate compares the full precision of the database value. The cursor starts with the
+ * fingerprint of the sort columns and the criteria it was issued for, so a cursor passed with a different sort or
+ * criteria is rejected instead of seeking to an unrelated position.
+ */
+public final class KeysetCursor {
+
+    private static final String VALUE_SEPARATOR = ".";
+    private static final String NULL_VALUE = "~";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Fingerprint of the sort columns and the criteria of the FilterRequest, stable across the JVMs.
+     *
+     * @param sortList - Indicates the sort columns of the keyset, including the id column.
+     * @param filter   - Indicates the FilterRequest.
+     * @return Fingerprint
+     */
+    public static String fingerprint(List<Sort> sortList, FilterRequest filter) {
+        StringBuilder text = new StringBuilder();
+        sortList.forEach(sort -> text.append(sort.column()).append(' ')
+                .append(SortType.DESC.equals(sort.sortType()) ? SortType.DESC : SortType.ASC).append('\n'));
+        text.append(filter.getCriteriaOperator()).append('\n');
+        appendCriteria(text, filter.getCriteria());
+        text.append('\n');
+        appendCriteria(text, filter.getOrCriteria());
+        CRC32 crc = new CRC32();
+        crc.update(text.toString().getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static void appendCriteria(StringBuilder text, List<Criteria> criteriaList) {
+        if (Objects.isNull(criteriaList)) {
+            return;
+        }
+        for (Criteria criteria : criteriaList) {
+            text.append(criteria.column()).append(' ').append(criteria.operator().name()).append(' ')
+                    .append(criteria.values()).append('\n');
+        }
+    }
+
+    /**
+     * Encode the keyset values to the opaque cursor.
+     *
+     * @param values      - Indicates the sort column values followed by the id value.
+     * @param fingerprint - Indicates the fingerprint of the sort and criteria.
+     * @return Cursor token
+     */
+    public static String encode(List<Object> values, String fingerprint) {
+        List<String> tokens = new ArrayList<>(values.size() + 1);
+        tokens.add(fingerprint);
+        for (Object value : values) {
+            if (value == null) {
+                tokens.add(NULL_VALUE);
+                continue;
+            }
+            tokens.add(Base64.getUrlEncoder().withoutPadding().encodeToString(toString(value).getBytes(StandardCharsets.UTF_8)));
+        }
+        return String.join(VALUE_SEPARATOR, tokens);
+    }
+
+    /**
+     * Decode the opaque cursor to the keyset values.
+     *
+     * @param cursor      - Indicates the cursor token.
+     * @param fingerprint - Indicates the fingerprint of the sort and criteria of the current FilterRequest.
+     * @return Keyset values in string form, {@code null} for the null values.
+     */
+    public static List<String> decode(String cursor, String fingerprint) {
+        if (!StringUtils.hasText(cursor)) {
+            throw new IllegalArgumentException("cursor require");
+        }
+        String[] tokens = cursor.split("\\.", -1);
+        if (!tokens[0].equals(fingerprint)) {
+            throw new IllegalArgumentException("cursor does not match the sort and criteria");
+        }
+        List<String> values = new ArrayList<>(tokens.length - 1);
+        try {
+            for (int i = 1; i < tokens.length; i++) {
+                values.add(NULL_VALUE.equals(tokens[i]) ? null : new String(Base64.getUrlDecoder().decode(tokens[i]), StandardCharsets.UTF_8));
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("invalid cursor", ex);
+        }
+        return values;
+    }
+
+    private static String toString(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant().toString();
+        }
+        if (value instanceof Date date) {
+            return String.valueOf(date.getTime());
+        }
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.metrics;
+
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.filter.cursor.CursorPage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Micrometer instrumentation of the {@link com.smartsensesolutions.commons.dao.base.BaseService} operations. Each
+ * operation is wrapped in the {@value #OPERATION} {@link Observation}, which is recorded as the timer of the same name,
+ * with the low cardinality tags {@code entity}, {@code operation}, {@code projection} and {@code criteria} (number of
+ * criteria). The number of rows returned and the requested page size are recorded as the distribution summaries
+ * {@value #ROWS} and {@value #PAGE_SIZE}, and the {@link IllegalArgumentException} of the invalid FilterRequest is
+ * counted by {@value #INVALID_FILTER}. With the statement guard enabled, the JDBC statements executed by the operation,
+ * the entities loaded from their results and their elapsed time are recorded as {@value #STATEMENTS},
+ * {@value #LOADED_ENTITIES} and the timer {@value #STATEMENT_TIME}.
+ * <p>
+ * The instrumentation is opt-in with {@code smartsense.commons.dao.metrics.enabled=true}. The application
+ * {@link ObservationRegistry} is used when present, otherwise the observations are recorded to the {@link MeterRegistry}
+ * directly. Without a MeterRegistry or an ObservationRegistry the operations are not instrumented.
+ */
+@Component
+public class DaoMetrics {
+
+    public static final String OPERATION = "commons.dao.operation";
+    public static final String ROWS = "commons.dao.rows";
+    public static final String PAGE_SIZE = "commons.dao.page.size";
+    public static final String INVALID_FILTER = "commons.dao.filter.invalid";
+    public static final String STATEMENTS = "commons.dao.statements";
+    public static final String LOADED_ENTITIES = "commons.dao.loaded.entities";
+    public static final String STATEMENT_TIME = "commons.dao.statement.time";
+
+    private static final int MAX_CRITERIA_TAG = 10;
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+
+    public DaoMetrics(ObjectProvider<MeterRegistry> meterRegistries, ObjectProvider<ObservationRegistry> observationRegistries,
+                      CommonsDaoProperties properties) {
+        this.meterRegistry = properties.getMetrics().isEnabled() ? meterRegistries.getIfUnique() : null;
+        ObservationRegistry registry = properties.getMetrics().isEnabled() ? observationRegistries.getIfUnique() : null;
+        if ((Objects.isNull(registry) || registry.isNoop()) && Objects.nonNull(meterRegistry)) {
+            registry = ObservationRegistry.create();
+            registry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        }
+        this.observationRegistry = Objects.isNull(registry) ? ObservationRegistry.NOOP : registry;
+    }
+
+    /**
+     * Observe the operation without FilterRequest.
+     *
+     * @param entityType - Indicates the entity class.
+     * @param operation  - Indicates the operation name.
+     * @param action     - Indicates the operation.
+     * @return Result of the operation
+     */
+    public <T> T observe(Class<?> entityType, String operation, Supplier<T> action) {
+        return observe(entityType, operation, null, null, action);
+    }
+
+    /**
+     * Observe the operation, the observation of the {@link CompletableFuture} result is stopped once it completes and
+     * the observation of the {@link Stream} result once the stream is closed.
+     *
+     * @param entityType - Indicates the entity class.
+     * @param operation  - Indicates the operation name.
+     * @param projection - Indicates the projection class, {@code null} for the entity.
+     * @param filter     - Indicates the FilterRequest, {@code null} if the operation is not a filter.
+     * @param action     - Indicates the operation.
+     * @return Result of the operation
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T observe(Class<?> entityType, String operation, Class<?> projection, FilterRequest filter, Supplier<T> action) {
+        if (observationRegistry.isNoop()) {
+            return action.get();
+        }
+        String entity = entityType.getSimpleName();
+        Observation observation = Observation.createNotStarted(OPERATION, observationRegistry)
+                .contextualName(entity + "#" + operation)
+                .lowCardinalityKeyValue("entity", entity)
+                .lowCardinalityKeyValue("operation", operation)
+                .lowCardinalityKeyValue("projection", Objects.isNull(projection) ? NONE : projection.getSimpleName())
+                .lowCardinalityKeyValue("criteria", getCriteriaCount(filter))
+                .start();
+        T result;
+        try (Observation.Scope scope = observation.openScope()) {
+            result = action.get();
+        } catch (RuntimeException ex) {
+            if (ex instanceof IllegalArgumentException && Objects.nonNull(filter) && Objects.nonNull(meterRegistry)) {
+                meterRegistry.counter(INVALID_FILTER, "entity", entity, "operation", operation).increment();
+            }
+            observation.error(ex);
+            observation.stop();
+            throw ex;
+        }
+        Tags tags = Tags.of("entity", entity, "operation", operation);
+        if (result instanceof Stream<?> stream) {
+            AtomicLong rows = new AtomicLong();
+            return (T) stream.peek(value -> rows.incrementAndGet()).onClose(() -> {
+                if (Objects.nonNull(meterRegistry)) {
+                    DistributionSummary.builder(ROWS).tags(tags).register(meterRegistry).record(rows.get());
+                }
+                observation.stop();
+            });
+        }
+        if (result instanceof CompletableFuture<?> future) {
+            future.whenComplete((value, ex) -> {
+                if (Objects.nonNull(ex)) {
+                    observation.error(ex);
+                } else {
+                    recordResult(tags, value);
+                }
+                observation.stop();
+            });
+        } else {
+            recordResult(tags, result);
+            observation.stop();
+        }
+        return result;
+    }
+
+    /**
+     * Record the JDBC statements executed by the operation.
+     *
+     * @param entityType     - Indicates the entity class.
+     * @param operation      - Indicates the operation name.
+     * @param statements     - Indicates the number of statements.
+     * @param loadedEntities - Indicates the number of entities loaded from the results.
+     * @param elapsedNanos   - Indicates the total elapsed time of the statements.
+     */
+    public void recordStatements(Class<?> entityType, String operation, int statements, long loadedEntities, long elapsedNanos) {
+        if (Objects.isNull(meterRegistry)) {
+            return;
+        }
+        Tags tags = Tags.of("entity", entityType.getSimpleName(), "operation", operation);
+        DistributionSummary.builder(STATEMENTS).tags(tags).register(meterRegistry).record(statements);
+        DistributionSummary.builder(LOADED_ENTITIES).tags(tags).register(meterRegistry).record(loadedEntities);
+        Timer.builder(STATEMENT_TIME).tags(tags).register(meterRegistry).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordResult(Tags tags, Object result) {
+        if (Objects.isNull(meterRegistry)) {
+            return;
+        }
+        if (result instanceof Slice<?> slice) {
+            recordRows(tags, slice.getNumberOfElements());
+            if (slice.getPageable().isPaged()) {
+                DistributionSummary.builder(PAGE_SIZE).tags(tags).register(meterRegistry).record(slice.getSize());
+            }
+        } else if (result instanceof CursorPage<?> cursorPage) {
+            recordRows(tags, cursorPage.content().size());
+        } else if (result instanceof Collection<?> collection) {
+            recordRows(tags, collection.size());
+        }
+    }
+
+    private void recordRows(Tags tags, int rows) {
+        DistributionSummary.builder(ROWS).tags(tags).register(meterRegistry).record(rows);
+    }
+
+    private String getCriteriaCount(FilterRequest filter) {
+        if (Objects.isNull(filter)) {
+            return "0";
+        }
+        int count = size(filter.getCriteria()) + size(filter.getOrCriteria());
+        return count > MAX_CRITERIA_TAG ? MAX_CRITERIA_TAG + "+" : String.valueOf(count);
+    }
+
+    private int size(List<?> list) {
+        return Objects.isNull(list) ? 0 : list.size();
+    }
+}
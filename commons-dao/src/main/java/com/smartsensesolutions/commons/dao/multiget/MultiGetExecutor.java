@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.multiget;
+
+import com.smartsensesolutions.commons.dao.statement.StatementCapture;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Loads the entities of a large number of ids with bounded statements. The distinct ids are split into chunks of
+ * {@code chunkSize}, and the {@code in} list of each chunk is padded to the next power of two by repeating the last
+ * id, so any number of ids is loaded by a few distinct statements that stay within the bind parameter limit of the
+ * driver and are reused from the query plan cache.
+ */
+@Component
+public class MultiGetExecutor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Load the entities of the ids, the chunks are loaded by up to {@code parallelism} tasks of the executor. The tasks
+     * do not share the persistence context of the caller, so within an active transaction the chunks are always loaded
+     * on the calling thread, and the entities are managed by the transaction and see its uncommitted changes.
+     *
+     * @param entityClass - Indicates the entity class.
+     * @param ids         - Indicates the ids, the duplicate ids are loaded once.
+     * @param chunkSize   - Indicates the maximum number of ids per statement, rounded down to a power of two.
+     * @param parallelism - Indicates the number of chunks loaded concurrently outside a transaction, {@code 1} to load
+     *                    on the calling thread.
+     * @param executor    - Indicates the executor of the concurrent chunks.
+     * @return MultiGetResult in the order of the ids
+     */
+    public <E, I> MultiGetResult<I, E> findAllById(Class<E> entityClass, Iterable<I> ids, int chunkSize, int parallelism, Executor executor) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk size must be positive");
+        }
+        Set<I> distinctIds = new LinkedHashSet<>();
+        for (I id : ids) {
+            if (Objects.isNull(id)) {
+                throw new IllegalArgumentException("id must not be null");
+            }
+            distinctIds.add(id);
+        }
+        List<List<Object>> chunks = getChunks(distinctIds, Integer.highestOneBit(chunkSize));
+        Map<Object, E> found = new ConcurrentHashMap<>();
+        if (parallelism <= 1 || chunks.size() <= 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            chunks.forEach(chunk -> load(entityClass, chunk, found));
+        } else {
+            loadConcurrently(entityClass, chunks, Math.min(parallelism, chunks.size()), executor, found);
+        }
+        Map<I, E> entities = new LinkedHashMap<>();
+        List<I> missingIds = new ArrayList<>();
+        for (I id : distinctIds) {
+            E entity = found.get(id);
+            if (Objects.isNull(entity)) {
+                missingIds.add(id);
+            } else {
+                entities.put(id, entity);
+            }
+        }
+        return new MultiGetResult<>(entities, missingIds);
+    }
+
+    /**
+     * Split the ids into the chunks, each chunk padded to the next power of two up to the chunk size.
+     */
+    private List<List<Object>> getChunks(Set<?> ids, int chunkSize) {
+        List<List<Object>> chunks = new ArrayList<>();
+        List<Object> chunk = new ArrayList<>(chunkSize);
+        for (Object id : ids) {
+            chunk.add(id);
+            if (chunk.size() == chunkSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            int paddedSize = Math.min(Integer.highestOneBit(chunk.size() * 2 - 1), chunkSize);
+            Object last = chunk.get(chunk.size() - 1);
+            while (chunk.size() < paddedSize) {
+                chunk.add(last);
+            }
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * Load the chunks by the lanes of the executor, each lane loads every {@code lanes}-th chunk in sequence.
+     */
+    private <E> void loadConcurrently(Class<E> entityClass, List<List<Object>> chunks, int lanes, Executor executor, Map<Object, E> found) {
+        StatementCapture capture = StatementCapture.current();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(lanes);
+        for (int lane = 0; lane < lanes; lane++) {
+            int first = lane;
+            futures.add(CompletableFuture.runAsync(() -> StatementCapture.runWith(capture, () -> {
+                for (int index = first; index < chunks.size(); index += lanes) {
+                    load(entityClass, chunks.get(index), found);
+                }
+                return null;
+            }), executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private <E> void load(Class<E> entityClass, List<Object> ids, Map<Object, E> found) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = cb.createQuery(entityClass);
+        Root<E> root = query.from(entityClass);
+        query.where(root.get(getIdAttributeName(entityClass)).in(ids));
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        for (E entity : entityManager.createQuery(query).getResultList()) {
+            found.put(persistenceUnitUtil.getIdentifier(entity), entity);
+        }
+    }
+
+    private String getIdAttributeName(Class<?> entityClass) {
+        EntityType<?> entityType = entityManager.getMetamodel().entity(entityClass);
+        if (!entityType.hasSingleIdAttribute()) {
+            throw new IllegalArgumentException("entity with composite id not supported");
+        }
+        return entityType.getId(entityType.getIdType().getJavaType()).getName();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.multiget;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of the multi-get of the entities by id.
+ *
+ * @param entities   - Indicates the found entities by id, in the order of the requested ids.
+ * @param missingIds - Indicates the requested ids without entity, in the order of the requested ids.
+ */
+public record MultiGetResult<I, E>(Map<I, E> entities, List<I> missingIds) {
+
+    /**
+     * @return {@code true} if the entity of every requested id is found.
+     */
+    public boolean isComplete() {
+        return missingIds.isEmpty();
+    }
+}
@@ -33,6 +33,10 @@ public enum Operator {
     CONTAIN_WITH_WILDCARD("like_with_wildcard"),
     NOT_CONTAIN("!like"),
     NOT_CONTAIN_WITH_WILDCARD("!like_with_wildcard"),
+    STARTS_WITH("starts_with"),
+    NOT_STARTS_WITH("!starts_with"),
+    ENDS_WITH("ends_with"),
+    NOT_ENDS_WITH("!ends_with"),
     EQUALS("="),
     NOT_EQUAL("!="),
     IN("in"),
@@ -44,7 +48,9 @@ public enum Operator {
     TRUE("is_true"),
     FALSE("is_false"),
     NULL("is_null"),
-    NOT_NULL("!is_null");
+    NOT_NULL("!is_null"),
+    FULL_TEXT("full_text"),
+    SIMILAR("similar");
 
     private static final Map<String, Operator> map = new HashMap<>();
     private final String operatorValue;
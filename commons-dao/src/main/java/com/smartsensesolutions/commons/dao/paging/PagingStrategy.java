@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.paging;
+
+/**
+ * Supported strategies for the page query of the {@code BaseService} filter.
+ */
+public enum PagingStrategy {
+
+    /**
+     * Select the entities of the page with {@code offset} and {@code limit}, the default. A join of a collection
+     * association, by a criteria or a sort on its path, returns the root entity once per element.
+     */
+    OFFSET,
+
+    /**
+     * Select the distinct ids of the page first, then load the entities and the fetched collections of those ids with
+     * one {@code where id in (...)} query in the order of the ids. The page costs two bounded queries regardless of the
+     * fan-out of the collections.
+     */
+    TWO_PHASE,
+
+    /**
+     * Use {@link #TWO_PHASE} when a criteria or sort path goes through a collection association, or the fetch plan
+     * fetches a collection, otherwise {@link #OFFSET}.
+     */
+    AUTO
+}
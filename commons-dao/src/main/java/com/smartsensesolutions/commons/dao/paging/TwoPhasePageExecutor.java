@@ -0,0 +1,233 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.paging;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.metamodel.CollectionClassification;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Executes the {@link PagingStrategy#TWO_PHASE} page query, must be called within a transaction.
+ */
+@Component
+public class TwoPhasePageExecutor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Select the distinct ids of the page, then load the entities of the ids with the fetch graph in the order of the
+     * ids. The count query runs only when the page is full.
+     *
+     * @param entityClass   - Indicates the entity class.
+     * @param specification - Indicates the specification, optional.
+     * @param pageable      - Indicates the page and sort.
+     * @param fetchPaths    - Indicates the attribute paths of the fetch graph, the mapped fetch type is used when empty.
+     * @return Page of Entity
+     */
+    public <E> Page<E> findPage(Class<E> entityClass, Specification<E> specification, Pageable pageable, List<String> fetchPaths) {
+        String idName = getIdAttributeName(entityClass);
+        List<Object> ids = findIds(entityClass, idName, specification, pageable);
+        List<E> content = findByIds(entityClass, idName, ids, fetchPaths);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityClass, specification));
+    }
+
+    /**
+     * {@code select id from entity ... group by id order by min(asc column), max(desc column), id}, the aggregate
+     * orders a collection path by its first element in the direction of the sort. Without the sort of the page the
+     * ordering added by the specification, i.e. the relevance order of the text search, is kept in the same way.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <E> List<Object> findIds(Class<E> entityClass, String idName, Specification<E> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = cb.createQuery(Object.class);
+        Root<E> root = query.from(entityClass);
+        Path<Object> id = root.get(idName);
+        query.select(id);
+        applyWhere(query, root, specification, cb);
+        query.groupBy(id);
+        List<Order> orders = new ArrayList<>();
+        boolean idSorted = false;
+        if (pageable.getSort().isUnsorted()) {
+            for (Order order : query.getOrderList()) {
+                Expression comparable = order.getExpression();
+                orders.add(order.isAscending() ? cb.asc(cb.least(comparable)) : cb.desc(cb.greatest(comparable)));
+            }
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (order.getProperty().equals(idName)) {
+                orders.add(order.isAscending() ? cb.asc(id) : cb.desc(id));
+                idSorted = true;
+                continue;
+            }
+            Expression comparable = QueryUtils.toExpressionRecursively(root, PropertyPath.from(order.getProperty(), entityClass));
+            orders.add(order.isAscending() ? cb.asc(cb.least(comparable)) : cb.desc(cb.greatest(comparable)));
+        }
+        if (!idSorted) {
+            orders.add(cb.asc(id));
+        }
+        query.orderBy(orders);
+        TypedQuery<Object> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList();
+    }
+
+    /**
+     * Load the entities of the ids with the fetch graph. Hibernate can not fetch more than one bag collection in one
+     * query, so the fetch paths are split by the bag they go through and each bag is fetched by its own query of the
+     * same ids, which initializes the collection of the entities already loaded in the persistence context.
+     */
+    private <E> List<E> findByIds(Class<E> entityClass, String idName, List<Object> ids, List<String> fetchPaths) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<List<String>> fetchGroups = groupByBag(entityClass, fetchPaths);
+        List<E> result = findByIds(entityClass, idName, ids, fetchGroups.get(0));
+        for (List<String> fetchGroup : fetchGroups.subList(1, fetchGroups.size())) {
+            findByIds(entityClass, idName, ids, fetchGroup);
+        }
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        Map<Object, E> entities = new HashMap<>();
+        for (E entity : result) {
+            entities.put(persistenceUnitUtil.getIdentifier(entity), entity);
+        }
+        return ids.stream().map(entities::get).filter(Objects::nonNull).toList();
+    }
+
+    private <E> List<E> findByIds(Class<E> entityClass, String idName, List<Object> ids, Collection<String> fetchPaths) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = cb.createQuery(entityClass);
+        Root<E> root = query.from(entityClass);
+        query.where(root.get(idName).in(ids));
+        TypedQuery<E> typedQuery = entityManager.createQuery(query);
+        if (!fetchPaths.isEmpty()) {
+            typedQuery.setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, createGraph(entityClass, fetchPaths));
+        }
+        return typedQuery.getResultList();
+    }
+
+    /**
+     * Group the fetch paths so each group goes through at most one bag, the paths without bag are in the first group.
+     * The bag is the unordered collection, mapped as {@code Collection} or as {@code List} without order column.
+     *
+     * @throws IllegalArgumentException if a path goes through more than one bag.
+     */
+    private List<List<String>> groupByBag(Class<?> entityClass, List<String> fetchPaths) {
+        MappingMetamodel metamodel = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getMappingMetamodel();
+        Map<String, List<String>> groups = new LinkedHashMap<>();
+        groups.put("", new ArrayList<>());
+        for (String path : fetchPaths) {
+            String bag = "";
+            EntityPersister persister = metamodel.getEntityDescriptor(entityClass);
+            String[] names = path.split("\\.");
+            for (int i = 0; i < names.length && Objects.nonNull(persister); i++) {
+                Type type = persister.getPropertyType(names[i]);
+                persister = null;
+                if (type instanceof CollectionType collectionType) {
+                    CollectionPersister collectionPersister = metamodel.getCollectionDescriptor(collectionType.getRole());
+                    if (CollectionClassification.BAG.equals(collectionPersister.getCollectionSemantics().getCollectionClassification())) {
+                        if (!bag.isEmpty()) {
+                            throw new IllegalArgumentException("fetch path " + path + " goes through more than one bag collection");
+                        }
+                        bag = String.join(".", Arrays.copyOfRange(names, 0, i + 1));
+                    }
+                    type = collectionPersister.getElementType();
+                }
+                if (type instanceof org.hibernate.type.EntityType entityType) {
+                    persister = metamodel.getEntityDescriptor(entityType.getAssociatedEntityName());
+                }
+            }
+            groups.computeIfAbsent(bag, key -> new ArrayList<>()).add(path);
+        }
+        List<List<String>> result = new ArrayList<>(groups.values());
+        if (result.size() > 1 && result.get(0).isEmpty()) {
+            result.remove(0);
+        }
+        return result;
+    }
+
+    private <E> EntityGraph<E> createGraph(Class<E> entityClass, Collection<String> paths) {
+        EntityGraph<E> graph = entityManager.createEntityGraph(entityClass);
+        Map<String, Subgraph<?>> subgraphs = new HashMap<>();
+        for (String path : paths) {
+            String[] names = path.split("\\.");
+            if (names.length == 1) {
+                graph.addAttributeNodes(names[0]);
+            } else {
+                getSubgraph(graph, subgraphs, names, names.length - 1).addAttributeNodes(names[names.length - 1]);
+            }
+        }
+        return graph;
+    }
+
+    private Subgraph<?> getSubgraph(EntityGraph<?> graph, Map<String, Subgraph<?>> subgraphs, String[] names, int length) {
+        String key = String.join(".", Arrays.copyOfRange(names, 0, length));
+        Subgraph<?> subgraph = subgraphs.get(key);
+        if (Objects.isNull(subgraph)) {
+            subgraph = length == 1 ? graph.addSubgraph(names[0]) : getSubgraph(graph, subgraphs, names, length - 1).addSubgraph(names[length - 1]);
+            subgraphs.put(key, subgraph);
+        }
+        return subgraph;
+    }
+
+    private String getIdAttributeName(Class<?> entityClass) {
+        EntityType<?> entityType = entityManager.getMetamodel().entity(entityClass);
+        if (!entityType.hasSingleIdAttribute()) {
+            throw new IllegalArgumentException("entity with composite id not supported");
+        }
+        return entityType.getId(entityType.getIdType().getJavaType()).getName();
+    }
+}
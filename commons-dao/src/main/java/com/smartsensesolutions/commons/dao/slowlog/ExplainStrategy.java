@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.slowlog;
+
+import org.hibernate.dialect.Dialect;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Dialect hook used by the {@link SlowFilterLogger} to attach the execution plan of the slow statement. Each
+ * @{@link org.springframework.stereotype.Component} implementing ExplainStrategy is registered, the first one
+ * supporting the dialect is used.
+ */
+public interface ExplainStrategy {
+
+    /**
+     * @param dialect - Indicates the Hibernate dialect.
+     * @return {@code true} if the strategy supports the database of the dialect.
+     */
+    boolean supports(Dialect dialect);
+
+    /**
+     * Explain the statement without executing it.
+     *
+     * @param connection - Indicates the JDBC connection.
+     * @param sql        - Indicates the SQL with the {@code ?} parameter markers.
+     * @return Execution plan
+     * @throws SQLException if the statement can not be explained.
+     */
+    String explain(Connection connection, String sql) throws SQLException;
+}
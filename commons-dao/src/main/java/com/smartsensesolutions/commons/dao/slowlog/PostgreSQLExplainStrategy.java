@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.slowlog;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.StringJoiner;
+
+/**
+ * Explains the statement with {@code EXPLAIN (ANALYZE off, GENERIC_PLAN)} of PostgreSQL 16+, the {@code ?} parameter
+ * markers are replaced by {@code $n} so the statement can be planned without the parameter values. The plan is skipped
+ * on the older servers, which do not support {@code GENERIC_PLAN}.
+ */
+@Component
+public class PostgreSQLExplainStrategy implements ExplainStrategy {
+
+    private static final int GENERIC_PLAN_MAJOR_VERSION = 16;
+
+    @Override
+    public boolean supports(Dialect dialect) {
+        return dialect instanceof PostgreSQLDialect;
+    }
+
+    @Override
+    public String explain(Connection connection, String sql) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        if (metaData.getDatabaseMajorVersion() < GENERIC_PLAN_MAJOR_VERSION) {
+            return "unavailable: GENERIC_PLAN requires PostgreSQL " + GENERIC_PLAN_MAJOR_VERSION + ", server is "
+                    + metaData.getDatabaseProductVersion();
+        }
+        StringJoiner plan = new StringJoiner("\n");
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (ANALYZE off, GENERIC_PLAN) " + toNumberedParameters(sql))) {
+            while (resultSet.next()) {
+                plan.add(resultSet.getString(1));
+            }
+        }
+        return plan.toString();
+    }
+
+    /**
+     * Replace the {@code ?} parameter markers, outside the string literals and quoted identifiers, by {@code $n}.
+     */
+    private String toNumberedParameters(String sql) {
+        StringBuilder result = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+                result.append(c);
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+                result.append(c);
+            } else if (c == '?') {
+                result.append('$').append(++parameter);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+}
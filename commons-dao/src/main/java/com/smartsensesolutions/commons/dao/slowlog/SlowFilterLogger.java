@@ -0,0 +1,253 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.slowlog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.filter.Criteria;
+import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.statement.CapturedStatement;
+import com.smartsensesolutions.commons.dao.statement.StatementCapture;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StatelessSession;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Logs the FilterRequest operations of the {@link com.smartsensesolutions.commons.dao.base.BaseService} slower than
+ * {@code smartsense.commons.dao.slow-log.threshold} as a structured event, with the FilterRequest serialized by the
+ * {@link ObjectMapper} of the context, the generated SQL statements, the raw criteria values and the elapsed time of the
+ * content and count queries. With {@code smartsense.commons.dao.slow-log.explain} the execution plan of the slowest
+ * statement is attached by the {@link ExplainStrategy} of the dialect, explained on a separate connection by a single
+ * background thread. The event is logged without the plan when the explain queue is full.
+ * <p>
+ * Slow events are sampled by {@code sample-rate} and limited to {@code max-events-per-minute}, so the logging does not
+ * add load when the database is already slow.
+ */
+@Slf4j
+@Component
+public class SlowFilterLogger implements DisposableBean {
+
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int EXPLAIN_QUEUE_CAPACITY = 16;
+
+    private final CommonsDaoProperties.SlowLog config;
+    private final List<ExplainStrategy> explainStrategies;
+    private final ThreadPoolTaskExecutor explainExecutor;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final LongAdder droppedCount = new LongAdder();
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    public SlowFilterLogger(CommonsDaoProperties properties, List<ExplainStrategy> explainStrategies,
+                            ObjectProvider<ObjectMapper> objectMapper) {
+        this.config = properties.getSlowLog();
+        this.explainStrategies = explainStrategies;
+        this.objectMapper = objectMapper.getIfAvailable(ObjectMapper::new);
+        this.explainExecutor = createExplainExecutor();
+    }
+
+    /**
+     * Single thread with the bounded queue, the explain is best effort and must not hold more than one connection.
+     */
+    private static ThreadPoolTaskExecutor createExplainExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("commons-dao-explain-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(EXPLAIN_QUEUE_CAPACITY);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * @return Number of the slow events not logged due to the rate limit.
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Run the operation with the statement capture, and log it if slower than the threshold. The {@link CompletableFuture}
+     * result is logged once it completes, and the {@link Stream} result once it is closed.
+     *
+     * @param entityType - Indicates the entity class.
+     * @param operation  - Indicates the operation name.
+     * @param filter     - Indicates the FilterRequest.
+     * @param action     - Indicates the operation.
+     * @return Result of the operation
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R capture(Class<?> entityType, String operation, FilterRequest filter, Supplier<R> action) {
+        if (!config.isEnabled()) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        StatementCapture capture = StatementCapture.start();
+        R result;
+        try {
+            result = action.get();
+        } finally {
+            capture.stop();
+        }
+        if (result instanceof Stream<?> stream) {
+            return (R) stream.onClose(() -> complete(capture, entityType, operation, filter, System.nanoTime() - start));
+        }
+        if (result instanceof CompletableFuture<?> future) {
+            future.whenComplete((value, ex) -> complete(capture, entityType, operation, filter, System.nanoTime() - start));
+        } else {
+            complete(capture, entityType, operation, filter, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    private void complete(StatementCapture capture, Class<?> entityType, String operation, FilterRequest filter, long elapsedNanos) {
+        if (elapsedNanos < config.getThreshold().toNanos()) {
+            return;
+        }
+        if (config.getSampleRate() < 1 && ThreadLocalRandom.current().nextDouble() >= config.getSampleRate()) {
+            return;
+        }
+        if (!tryAcquire()) {
+            droppedCount.increment();
+            return;
+        }
+        List<CapturedStatement> statements = capture.getStatements();
+        if (config.isExplain() && !statements.isEmpty()) {
+            CapturedStatement slowest = statements.stream().max(Comparator.comparingLong(CapturedStatement::elapsedNanos)).get();
+            try {
+                explainExecutor.execute(() -> log(entityType, operation, filter, elapsedNanos, statements, explain(slowest.sql())));
+            } catch (TaskRejectedException ex) {
+                log(entityType, operation, filter, elapsedNanos, statements, "unavailable: explain queue is full");
+            }
+        } else {
+            log(entityType, operation, filter, elapsedNanos, statements, null);
+        }
+    }
+
+    private void log(Class<?> entityType, String operation, FilterRequest filter, long elapsedNanos,
+                     List<CapturedStatement> statements, String plan) {
+        long contentNanos = statements.stream().filter(statement -> !statement.isCount()).mapToLong(CapturedStatement::elapsedNanos).sum();
+        long countNanos = statements.stream().filter(CapturedStatement::isCount).mapToLong(CapturedStatement::elapsedNanos).sum();
+        String json = toJson(filter);
+        List<String> sql = statements.stream().map(CapturedStatement::sql).toList();
+        List<Object> criteriaValues = getCriteriaValues(filter);
+        log.atWarn()
+                .addKeyValue("entity", entityType.getSimpleName())
+                .addKeyValue("operation", operation)
+                .addKeyValue("elapsedMs", toMillis(elapsedNanos))
+                .addKeyValue("contentMs", toMillis(contentNanos))
+                .addKeyValue("countMs", toMillis(countNanos))
+                .addKeyValue("filter", json)
+                .addKeyValue("sql", sql)
+                .addKeyValue("criteriaValues", criteriaValues)
+                .addKeyValue("plan", plan)
+                .log("slow filter entity={} operation={} elapsedMs={} contentMs={} countMs={} filter={} sql={} criteriaValues={}{}",
+                        entityType.getSimpleName(), operation, toMillis(elapsedNanos), toMillis(contentNanos),
+                        toMillis(countNanos), json, sql, criteriaValues, Objects.isNull(plan) ? "" : "\nplan:\n" + plan);
+    }
+
+    private String explain(String sql) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        ExplainStrategy strategy = explainStrategies.stream().filter(explainStrategy -> explainStrategy.supports(dialect)).findFirst().orElse(null);
+        if (Objects.isNull(strategy)) {
+            return "unavailable: no explain strategy for " + dialect.getClass().getSimpleName();
+        }
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            return session.doReturningWork(connection -> strategy.explain(connection, sql));
+        } catch (RuntimeException ex) {
+            return "unavailable: " + ex.getMessage();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        explainExecutor.shutdown();
+    }
+
+    /**
+     * Fixed one minute window rate limit.
+     */
+    private boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() <= config.getMaxEventsPerMinute();
+    }
+
+    private long toMillis(long nanos) {
+        return Duration.ofNanos(nanos).toMillis();
+    }
+
+    /**
+     * Values of the criteria as given in the FilterRequest, in the order of the criteria. These are not the bound values,
+     * i.e. they are not converted to the field types and the keyset cursor is not decoded, see the {@code filter} for the
+     * cursor.
+     */
+    private List<Object> getCriteriaValues(FilterRequest filter) {
+        List<Object> values = new ArrayList<>();
+        Stream.of(filter.getCriteria(), filter.getOrCriteria())
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(Criteria::values)
+                .filter(Objects::nonNull)
+                .forEach(values::addAll);
+        return values;
+    }
+
+    private String toJson(FilterRequest filter) {
+        try {
+            return objectMapper.writeValueAsString(filter);
+        } catch (JsonProcessingException ex) {
+            return "unavailable: " + ex.getMessage();
+        }
+    }
+}
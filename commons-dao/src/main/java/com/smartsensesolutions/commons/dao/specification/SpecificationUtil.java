@@ -17,21 +17,46 @@
 package com.smartsensesolutions.commons.dao.specification;
 
 import com.smartsensesolutions.commons.dao.base.BaseEntity;
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
 import com.smartsensesolutions.commons.dao.filter.Criteria;
+import com.smartsensesolutions.commons.dao.filter.sort.Sort;
+import com.smartsensesolutions.commons.dao.filter.sort.SortType;
+import com.smartsensesolutions.commons.dao.operator.CriteriaOperator;
+import com.smartsensesolutions.commons.dao.operator.Operator;
 import com.smartsensesolutions.commons.dao.specification.function.MultiValuePredicateProvider;
 import com.smartsensesolutions.commons.dao.specification.function.NoValuePredicateProvider;
 import com.smartsensesolutions.commons.dao.specification.function.PredicateProvider;
 import com.smartsensesolutions.commons.dao.specification.function.StringPredicateProvider;
+import com.smartsensesolutions.commons.dao.specification.inlist.InListPredicateFactory;
+import com.smartsensesolutions.commons.dao.specification.plan.ColumnPlan;
+import com.smartsensesolutions.commons.dao.specification.plan.FieldPlan;
+import com.smartsensesolutions.commons.dao.specification.plan.FilterPlan;
+import com.smartsensesolutions.commons.dao.specification.plan.FilterPlanCache;
+import com.smartsensesolutions.commons.dao.specification.plan.JoinPlan;
+import com.smartsensesolutions.commons.dao.specification.text.TextSearchStrategy;
 import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.query.criteria.JpaOrder;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.NullPrecedence;
+import org.hibernate.query.sqm.tree.expression.SqmFunction;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.mapping.PropertyPath;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Specification will be used to generate specification for {@code T} type of entity JPA query.
@@ -41,259 +66,442 @@ import java.util.stream.Collectors;
 @Component
 @RequiredArgsConstructor
 public class SpecificationUtil<T extends BaseEntity> {
-    private final String TABLE_FIELD_SEPARATOR = "\\.";
-    private final String FIELD_SEPARATOR = ",";
     private final SpecificationValueConverter valueConverter;
+    private final FilterPlanCache planCache;
+    private final TextSearchStrategy textSearchStrategy;
+    private final CommonsDaoProperties properties;
+    private final InListPredicateFactory inListPredicateFactory;
 
     public Specification<T> generateOrSpecification(List<Criteria> criteriaList) {
+        return toSpecification(List.of(new CriteriaGroup(criteriaList, true)), false);
+    }
+
+    public Specification<T> generateAndSpecification(List<Criteria> criteriaList) {
+        return toSpecification(List.of(new CriteriaGroup(criteriaList, false)), false);
+    }
+
+    /**
+     * Generate the specification of the and-criteria combined with the or-criteria by the criteria operator. Both the
+     * groups are generated together, so the criteria of the same collection path are matched against the same
+     * collection element in the content query and in the count query.
+     *
+     * @param criteriaList   - Indicates the criteria matched all together.
+     * @param orCriteriaList - Indicates the criteria of which at least one is matched.
+     * @param operator       - Indicates the operator combining the two groups.
+     * @return Specification of Entity
+     */
+    public Specification<T> generateSpecification(List<Criteria> criteriaList, List<Criteria> orCriteriaList, CriteriaOperator operator) {
+        return toSpecification(List.of(new CriteriaGroup(criteriaList, false), new CriteriaGroup(orCriteriaList, true)),
+                CriteriaOperator.OR.equals(operator));
+    }
+
+    private Specification<T> toSpecification(List<CriteriaGroup> groups, boolean or) {
         return (Root<T> root, CriteriaQuery<?> cq, CriteriaBuilder cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            criteriaList.forEach(criteria -> predicates.add(getPredicate(criteria, root, cb)));
-            return cb.or(toArray(predicates));
+            if (isCountQuery(cq)) {
+                return getCountPredicate(toFilterNode(groups, or, root), root, cq, cb);
+            }
+            List<Predicate> predicates = new ArrayList<>(groups.size());
+            for (CriteriaGroup group : groups) {
+                Predicate[] groupPredicates = toArray(getPredicates(group.criteria(), root, cq, cb));
+                predicates.add(group.or() ? cb.or(groupPredicates) : cb.and(groupPredicates));
+            }
+            if (predicates.size() == 1) {
+                return predicates.get(0);
+            }
+            return or ? cb.or(toArray(predicates)) : cb.and(toArray(predicates));
         };
     }
 
-    public Specification<T> generateAndSpecification(List<Criteria> criteriaList) {
+    /**
+     * Stage the values of the large {@code IN} and {@code NOT_IN} criteria into the temporary table of the current
+     * transaction, so the generated specification references the staged values instead of binding them. Must be called
+     * within the transaction executing the queries of the specification, before the queries, as generating the
+     * predicate does not execute any statement.
+     *
+     * @param entityType   - Indicates the entity type of the criteria.
+     * @param criteriaList - Indicates the criteria.
+     */
+    public void stageInLists(ManagedType<?> entityType, List<Criteria> criteriaList) {
+        if (!inListPredicateFactory.isStagingEnabled() || CollectionUtils.isEmpty(criteriaList)) {
+            return;
+        }
+        FilterPlan plan = planCache.getPlan(entityType, criteriaList);
+        for (int i = 0; i < criteriaList.size(); i++) {
+            Criteria criteria = criteriaList.get(i);
+            if (!Operator.IN.equals(criteria.operator()) && !Operator.NOT_IN.equals(criteria.operator())) {
+                continue;
+            }
+            validateValue(criteria.values());
+            for (FieldPlan field : plan.criteria().get(i).column().fields()) {
+                inListPredicateFactory.stage(field.javaType(), toValueSet(criteria, field), criteria.values());
+            }
+        }
+    }
+
+    /**
+     * Generate the ordering and the seek predicate of the keyset pagination honouring the direction of each sort column.
+     * The records are ordered with the null values last in both directions. When all the sort columns are non-optional
+     * and sorted in the same direction, the seek predicate is the row value comparison i.e.
+     * {@code (col1, col2, id) > (?, ?, ?)}, which the database can resolve with one index range scan. Otherwise it is
+     * expanded to {@code col1 > ? or (col1 = ? and col2 > ?) ...}, where a null sort value seeks to the following null
+     * values and a non-null sort value of the optional column to the greater values followed by the null values.
+     *
+     * @param sortList     - Indicates the sort columns, last one must be the unique tie-breaker i.e. id column.
+     * @param cursorValues - Indicates the values of the sort columns from the last record of the previous page,
+     *                     {@code null} for the first page.
+     * @return Specification of Entity
+     */
+    public Specification<T> generateKeysetSpecification(List<Sort> sortList, List<String> cursorValues) {
+        if (Objects.nonNull(cursorValues) && sortList.size() != cursorValues.size()) {
+            throw new IllegalArgumentException("cursor does not match the sort columns");
+        }
         return (Root<T> root, CriteriaQuery<?> cq, CriteriaBuilder cb) -> {
+            List<Expression<Object>> paths = new ArrayList<>();
+            List<Order> orders = new ArrayList<>();
+            for (Sort sort : sortList) {
+                Expression<Object> path = QueryUtils.toExpressionRecursively(root, PropertyPath.from(sort.column(), root.getJavaType()));
+                paths.add(path);
+                Order order = SortType.DESC.equals(sort.sortType()) ? cb.desc(path) : cb.asc(path);
+                orders.add(((JpaOrder) order).nullPrecedence(NullPrecedence.LAST));
+            }
+            if (Objects.nonNull(cq) && !isCountQuery(cq)) {
+                cq.orderBy(orders);
+            }
+            if (Objects.isNull(cursorValues)) {
+                return null;
+            }
+            List<Object> values = new ArrayList<>();
+            List<Boolean> optional = new ArrayList<>();
+            for (int i = 0; i < paths.size(); i++) {
+                values.add(Objects.isNull(cursorValues.get(i)) ? null : valueConverter.getConverter(paths.get(i).getJavaType()).apply(cursorValues.get(i)));
+                optional.add(isOptional(root.getModel(), sortList.get(i).column()));
+            }
+            boolean descending = SortType.DESC.equals(sortList.get(0).sortType());
+            if (paths.size() > 1 && !optional.contains(Boolean.TRUE) && !values.contains(null)
+                    && sortList.stream().allMatch(sort -> SortType.DESC.equals(sort.sortType()) == descending)) {
+                Expression columns = new SqmTuple<>(paths.stream().<SqmExpression<?>>map(SqmExpression.class::cast).toList(), (NodeBuilder) cb);
+                Expression cursor = new SqmTuple<>(values.stream().<SqmExpression<?>>map(value -> (SqmExpression<?>) cb.literal(value)).toList(), (NodeBuilder) cb);
+                return descending ? cb.lessThan(columns, cursor) : cb.greaterThan(columns, cursor);
+            }
             List<Predicate> predicates = new ArrayList<>();
-            criteriaList.forEach(criteria -> predicates.add(getPredicate(criteria, root, cb)));
-            return cb.and(toArray(predicates));
+            for (int i = 0; i < paths.size(); i++) {
+                if (Objects.isNull(values.get(i))) {
+                    continue;
+                }
+                List<Predicate> and = new ArrayList<>();
+                for (int j = 0; j < i; j++) {
+                    and.add(Objects.isNull(values.get(j)) ? cb.isNull(paths.get(j)) : cb.equal(paths.get(j), values.get(j)));
+                }
+                Expression path = paths.get(i);
+                Comparable value = (Comparable) values.get(i);
+                Predicate after = SortType.DESC.equals(sortList.get(i).sortType()) ? cb.lessThan(path, value) : cb.greaterThan(path, value);
+                and.add(optional.get(i) ? cb.or(after, cb.isNull(path)) : after);
+                predicates.add(cb.and(toArray(and)));
+            }
+            return cb.or(toArray(predicates));
         };
     }
 
-    private Predicate getPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    /**
+     * @return {@code false} if each attribute of the dotted path is the non-optional singular attribute.
+     */
+    private boolean isOptional(ManagedType<?> entityType, String column) {
+        ManagedType<?> type = entityType;
+        for (String name : column.split("\\.")) {
+            if (Objects.isNull(type) || !(type.getAttribute(name) instanceof SingularAttribute<?, ?> attribute) || attribute.isOptional()) {
+                return true;
+            }
+            type = attribute.getType() instanceof ManagedType<?> managedType ? managedType : null;
+        }
+        return false;
+    }
+
+    private List<Predicate> getPredicates(List<Criteria> criteriaList, Root<T> root, CriteriaQuery<?> cq, CriteriaBuilder cb) {
+        FilterPlan plan = planCache.getPlan(root.getModel(), criteriaList);
+        List<Predicate> predicates = new ArrayList<>(criteriaList.size());
+        List<Order> relevanceOrders = new ArrayList<>();
+        for (int i = 0; i < criteriaList.size(); i++) {
+            Criteria criteria = criteriaList.get(i);
+            ColumnPlan column = plan.criteria().get(i).column();
+            Path<?> from = column.isJoin() ? getJoinTable(root, column) : root;
+            predicates.add(getPredicate(criteria, column, from, cb));
+            if (Operator.FULL_TEXT.equals(criteria.operator()) || Operator.SIMILAR.equals(criteria.operator())) {
+                relevanceOrders.addAll(getRelevanceOrders(criteria, column, from, cb));
+            }
+        }
+        if (Objects.nonNull(cq) && !relevanceOrders.isEmpty() && properties.getTextSearch().isRelevanceOrder()) {
+            List<Order> orders = new ArrayList<>(cq.getOrderList());
+            orders.addAll(relevanceOrders);
+            cq.orderBy(orders);
+        }
+        return predicates;
+    }
+
+    /**
+     * Order by the relevance score of the text search criteria, the explicit sort of the FilterRequest replaces this
+     * ordering as it is applied after the specification.
+     */
+    private List<Order> getRelevanceOrders(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (FieldPlan field : column.fields()) {
+            Path<String> path = from.get(field.name());
+            for (Object value : criteria.values()) {
+                orders.add(cb.desc(Operator.FULL_TEXT.equals(criteria.operator())
+                        ? textSearchStrategy.fullTextRank(cb, path, value.toString())
+                        : textSearchStrategy.similarRank(cb, path, value.toString())));
+            }
+        }
+        return orders;
+    }
+
+    /**
+     * Generate the predicate of the count (or exists) query which only needs to read the base table plus the minimum
+     * required for the filtering. Ordering is removed, the foreign key reference of a to-one association is resolved
+     * from the base table without join, and the criteria on a collection path are turned into a correlated
+     * {@code EXISTS} subquery so the collection does not multiply the counted rows. Each criteria joins the collection
+     * on its own as in the content query, so each top level conjunct of the filter on a collection path, from the
+     * and-criteria as well as from the or-criteria, gets its own subquery.
+     */
+    private Predicate getCountPredicate(FilterNode filter, Root<T> root, CriteriaQuery<?> cq, CriteriaBuilder cb) {
+        cq.orderBy(Collections.emptyList());
+        List<FilterNode> conjuncts = new ArrayList<>();
+        addConjuncts(filter, conjuncts);
+        List<Predicate> predicates = new ArrayList<>();
+        for (FilterNode conjunct : conjuncts) {
+            if (!conjunct.hasCollectionJoin()) {
+                predicates.add(toCountPredicate(conjunct, root, cb));
+                continue;
+            }
+            Subquery<Integer> subquery = cq.subquery(Integer.class);
+            Root<T> correlated = subquery.correlate(root);
+            subquery.select(cb.literal(1)).where(toCountPredicate(conjunct, correlated, cb));
+            predicates.add(cb.exists(subquery));
+        }
+        return cb.and(toArray(predicates));
+    }
+
+    private FilterNode toFilterNode(List<CriteriaGroup> groups, boolean or, Root<T> root) {
+        List<FilterNode> nodes = new ArrayList<>(groups.size());
+        for (CriteriaGroup group : groups) {
+            FilterPlan plan = planCache.getPlan(root.getModel(), group.criteria());
+            List<FilterNode> children = new ArrayList<>(group.criteria().size());
+            for (int i = 0; i < group.criteria().size(); i++) {
+                children.add(new FilterNode(group.criteria().get(i), plan.criteria().get(i).column(), false, List.of()));
+            }
+            nodes.add(new FilterNode(null, null, group.or(), children));
+        }
+        return nodes.size() == 1 ? nodes.get(0) : new FilterNode(null, null, or, nodes);
+    }
+
+    private void addConjuncts(FilterNode node, List<FilterNode> conjuncts) {
+        if (node.isCriteria() || node.or()) {
+            conjuncts.add(node);
+        } else {
+            node.children().forEach(child -> addConjuncts(child, conjuncts));
+        }
+    }
+
+    private Predicate toCountPredicate(FilterNode node, Root<T> root, CriteriaBuilder cb) {
+        if (!node.isCriteria()) {
+            List<Predicate> predicates = node.children().stream().map(child -> toCountPredicate(child, root, cb)).toList();
+            return node.or() ? cb.or(toArray(predicates)) : cb.and(toArray(predicates));
+        }
+        ColumnPlan column = node.column();
+        if (column.isForeignKeyReference()) {
+            return getPredicate(node.criteria(), column, root.get(column.joins().get(0).attribute()), cb);
+        }
+        Path<?> from = column.isJoin() ? getJoinTable(root, column) : root;
+        return getPredicate(node.criteria(), column, from, cb);
+    }
+
+    /**
+     * Count query is identified by its {@code count} selection. The count query of Spring Data JPA selects the count
+     * after applying the specification, so a {@code Long} query without the selection yet is a count query as well,
+     * and the exists query of Spring Data JPA selects the literal {@code 1} before applying the specification.
+     */
+    private boolean isCountQuery(CriteriaQuery<?> cq) {
+        if (Objects.isNull(cq)) {
+            return false;
+        }
+        Selection<?> selection = cq.getSelection();
+        if (Objects.isNull(selection)) {
+            return Long.class.equals(cq.getResultType());
+        }
+        return selection instanceof SqmFunction<?> function && "count".equalsIgnoreCase(function.getFunctionName())
+                || selection instanceof SqmLiteral<?> && Integer.class.equals(cq.getResultType());
+    }
+
+    private Predicate getPredicate(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
         return switch (criteria.operator()) {
-            case CONTAIN -> getContainsPredicates(criteria, root, cb);
-            case CONTAIN_WITH_WILDCARD -> getContainsWildcardPredicates(criteria, root, cb);
-            case NOT_CONTAIN -> getNotContainPredicates(criteria, root, cb);
-            case NOT_CONTAIN_WITH_WILDCARD -> getNotContainsWildcardPredicates(criteria, root, cb);
-            case EQUALS -> getEqualsPredicate(criteria, root, cb);
-            case NOT_EQUAL -> getNotEqualsPredicate(criteria, root, cb);
-            case NULL -> getIsNullPredicate(criteria, root, cb);
-            case NOT_NULL -> getIsNotNullPredicate(criteria, root, cb);
-            case IN -> getInPredicate(criteria, root, cb);
-            case NOT_IN -> getNotInPredicate(criteria, root, cb);
-            case TRUE -> getTruePredicate(criteria, root, cb);
-            case FALSE -> getFalsePredicate(criteria, root, cb);
-            case LESSER_THAN -> getLesserThanPredicate(criteria, root, cb);
-            case LESSER_EQUALS -> getLesserEqualPredicate(criteria, root, cb);
-            case GREATER_THAN -> getGretherThanPredicate(criteria, root, cb);
-            case GREATER_EQUALS -> getGretherEqualPredicate(criteria, root, cb);
+            case CONTAIN -> getContainsPredicates(criteria, column, from, cb);
+            case CONTAIN_WITH_WILDCARD -> getContainsWildcardPredicates(criteria, column, from, cb);
+            case NOT_CONTAIN -> getNotContainPredicates(criteria, column, from, cb);
+            case NOT_CONTAIN_WITH_WILDCARD -> getNotContainsWildcardPredicates(criteria, column, from, cb);
+            case STARTS_WITH -> getStartsWithPredicates(criteria, column, from, cb, false);
+            case NOT_STARTS_WITH -> getStartsWithPredicates(criteria, column, from, cb, true);
+            case ENDS_WITH -> getEndsWithPredicates(criteria, column, from, cb, false);
+            case NOT_ENDS_WITH -> getEndsWithPredicates(criteria, column, from, cb, true);
+            case EQUALS -> getEqualsPredicate(criteria, column, from, cb);
+            case NOT_EQUAL -> getNotEqualsPredicate(criteria, column, from, cb);
+            case NULL -> getNoValuePredicate(column, from, cb, CriteriaBuilder::isNull);
+            case NOT_NULL -> getNoValuePredicate(column, from, cb, CriteriaBuilder::isNotNull);
+            case IN -> getInPredicate(criteria, column, from, cb);
+            case NOT_IN -> getNotInPredicate(criteria, column, from, cb);
+            case TRUE -> getNoValuePredicate(column, from, cb, CriteriaBuilder::isTrue);
+            case FALSE -> getNoValuePredicate(column, from, cb, CriteriaBuilder::isFalse);
+            case LESSER_THAN -> getLesserThanPredicate(criteria, column, from, cb);
+            case LESSER_EQUALS -> getLesserEqualPredicate(criteria, column, from, cb);
+            case GREATER_THAN -> getGretherThanPredicate(criteria, column, from, cb);
+            case GREATER_EQUALS -> getGretherEqualPredicate(criteria, column, from, cb);
+            case FULL_TEXT -> getFullTextPredicates(criteria, column, from, cb);
+            case SIMILAR -> getSimilarPredicates(criteria, column, from, cb);
         };
     }
 
-    private Predicate getContainsPredicates(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    private Predicate getContainsPredicates(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
         validateValue(criteria.values());
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getContainJoinPredicate(criteria, root, cb, (c, p, v) -> c.like(c.lower(p.as(String.class)), getContainsEscValue(v.toString())));
-        }
-        return getContainPredicate(criteria, root, cb, (c, p, v) -> c.like(c.lower(p.as(String.class)), getContainsEscValue(v.toString()), '\\'));
+        return getContainPredicate(criteria, column, from, cb, (c, p, v) -> c.like(c.lower(p.as(String.class)), getContainsEscValue(v.toString()), '\\'));
     }
 
-    private Predicate getContainsWildcardPredicates(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    private Predicate getContainsWildcardPredicates(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
         validateValue(criteria.values());
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getContainJoinPredicate(criteria, root, cb, (c, p, v) -> c.like(c.lower(p.as(String.class)), v.toString()));
-        }
-        return getContainPredicate(criteria, root, cb, (c, p, v) -> c.like(c.lower(p.as(String.class)), v.toString()));
+        return getContainPredicate(criteria, column, from, cb, (c, p, v) -> c.like(c.lower(p.as(String.class)), v.toString()));
     }
 
-    private Predicate getNotContainPredicates(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    private Predicate getNotContainPredicates(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
         validateValue(criteria.values());
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getContainJoinPredicate(criteria, root, cb, (c, p, v) -> c.notLike(c.lower(p.as(String.class)), getContainsEscValue(v.toString())));
-        }
-        return getContainPredicate(criteria, root, cb, (c, p, v) -> c.notLike(c.lower(p.as(String.class)), getContainsEscValue(v.toString())));
+        return getContainPredicate(criteria, column, from, cb, (c, p, v) -> c.notLike(c.lower(p.as(String.class)), getContainsEscValue(v.toString()), '\\'));
     }
 
-    private Predicate getNotContainsWildcardPredicates(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    private Predicate getNotContainsWildcardPredicates(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
         validateValue(criteria.values());
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getContainJoinPredicate(criteria, root, cb, (c, p, v) -> c.notLike(c.lower(p.as(String.class)), v.toString()));
-        }
-        return getContainPredicate(criteria, root, cb, (c, p, v) -> c.notLike(c.lower(p.as(String.class)), v.toString()));
+        return getContainPredicate(criteria, column, from, cb, (c, p, v) -> c.notLike(c.lower(p.as(String.class)), v.toString()));
     }
 
-    private Predicate getEqualsPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    private Predicate getStartsWithPredicates(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb, boolean negate) {
         validateValue(criteria.values());
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getJoinPredicate(criteria, root, cb, CriteriaBuilder::equal);
-        }
-        return getPredicate(criteria, root, cb, CriteriaBuilder::equal);
+        return getContainPredicate(criteria, column, from, cb, (c, p, v) ->
+                getLikePredicate(c, getMatchExpression(c, p), getEscValue(v.toString()).concat("%"), negate));
     }
 
-    private Predicate getNotEqualsPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    /**
+     * With {@code smartsense.commons.dao.string-match.reverse-suffix} the suffix is matched as the prefix of the
+     * reversed field i.e. {@code reverse(col) like 'cba%'}, so a {@code reverse(col)} functional index can be used.
+     */
+    private Predicate getEndsWithPredicates(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb, boolean negate) {
         validateValue(criteria.values());
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getJoinPredicate(criteria, root, cb, CriteriaBuilder::notEqual);
+        if (properties.getStringMatch().isReverseSuffix()) {
+            return getContainPredicate(criteria, column, from, cb, (c, p, v) ->
+                    getLikePredicate(c, c.function("reverse", String.class, getMatchExpression(c, p)),
+                            getEscValue(new StringBuilder(v.toString()).reverse().toString()).concat("%"), negate));
         }
-        return getPredicate(criteria, root, cb, CriteriaBuilder::notEqual);
+        return getContainPredicate(criteria, column, from, cb, (c, p, v) ->
+                getLikePredicate(c, getMatchExpression(c, p), "%".concat(getEscValue(v.toString())), negate));
     }
 
-    private Predicate getIsNullPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getNoValueJoinPredicate(criteria, root, cb, CriteriaBuilder::isNull);
-        }
-        return getNoValuePredicate(criteria, root, cb, CriteriaBuilder::isNull);
+    /**
+     * Field expression of the prefix/suffix match, lower-cased when {@code smartsense.commons.dao.string-match.ignore-case}
+     * is set so it can use a {@code lower(col)} functional index.
+     */
+    private Expression<String> getMatchExpression(CriteriaBuilder cb, Path<String> path) {
+        return properties.getStringMatch().isIgnoreCase() ? cb.lower(path.as(String.class)) : path.as(String.class);
     }
 
-    private Predicate getIsNotNullPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getNoValueJoinPredicate(criteria, root, cb, CriteriaBuilder::isNotNull);
-        }
-        return getNoValuePredicate(criteria, root, cb, CriteriaBuilder::isNotNull);
+    private Predicate getLikePredicate(CriteriaBuilder cb, Expression<String> expression, String pattern, boolean negate) {
+        String value = properties.getStringMatch().isIgnoreCase() ? pattern.toLowerCase() : pattern;
+        return negate ? cb.notLike(expression, value, '\\') : cb.like(expression, value, '\\');
     }
 
-    private Predicate getInPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    private Predicate getFullTextPredicates(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
         validateValue(criteria.values());
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getMultiValueJoinPredicate(criteria, root, cb, (c, p, s) -> p.in(s));
-        }
-        return getMultiValuePredicate(criteria, root, cb, (c, p, s) -> p.in(s));
+        return getContainPredicate(criteria, column, from, cb, (c, p, v) -> textSearchStrategy.fullText(c, p, v.toString()));
     }
 
-    private Predicate getNotInPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    private Predicate getSimilarPredicates(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
         validateValue(criteria.values());
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getMultiValueJoinPredicate(criteria, root, cb, (c, p, s) -> c.not(p.in(s)));
-        }
-        return getMultiValuePredicate(criteria, root, cb, (c, p, s) -> c.not(p.in(s)));
-    }
-
-    private Predicate getTruePredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getNoValueJoinPredicate(criteria, root, cb, CriteriaBuilder::isTrue);
-        }
-        return getNoValuePredicate(criteria, root, cb, CriteriaBuilder::isTrue);
+        return getContainPredicate(criteria, column, from, cb, (c, p, v) -> textSearchStrategy.similar(c, p, v.toString()));
     }
 
-    private Predicate getFalsePredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getNoValueJoinPredicate(criteria, root, cb, CriteriaBuilder::isFalse);
-        }
-        return getNoValuePredicate(criteria, root, cb, CriteriaBuilder::isFalse);
+    private Predicate getEqualsPredicate(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
+        validateValue(criteria.values());
+        return getPredicate(criteria, column, from, cb, CriteriaBuilder::equal);
     }
 
-    private Predicate getLesserThanPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    private Predicate getNotEqualsPredicate(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
         validateValue(criteria.values());
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getJoinPredicate(criteria, root, cb, (c, p, v) -> c.lessThan(p, (Comparable) v));
-        }
-        return getPredicate(criteria, root, cb, (c, p, v) -> c.lessThan(p, (Comparable) v));
+        return getPredicate(criteria, column, from, cb, CriteriaBuilder::notEqual);
     }
 
-    private Predicate getLesserEqualPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    private Predicate getInPredicate(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
         validateValue(criteria.values());
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getJoinPredicate(criteria, root, cb, (c, p, v) -> c.lessThanOrEqualTo(p, (Comparable) v));
-        }
-        return getPredicate(criteria, root, cb, (c, p, v) -> c.lessThanOrEqualTo(p, (Comparable) v));
+        return getMultiValuePredicate(criteria, column, from, cb, (c, p, s) -> inListPredicateFactory.in(c, p, s, criteria.values()));
     }
 
-    private Predicate getGretherThanPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    private Predicate getNotInPredicate(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
         validateValue(criteria.values());
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getJoinPredicate(criteria, root, cb, (c, p, v) -> c.greaterThan(p, (Comparable) v));
-        }
-        return getPredicate(criteria, root, cb, (c, p, v) -> c.greaterThan(p, (Comparable) v));
+        return getMultiValuePredicate(criteria, column, from, cb, (c, p, s) -> c.not(inListPredicateFactory.in(c, p, s, criteria.values())));
     }
 
-    private Predicate getGretherEqualPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb) {
+    private Predicate getLesserThanPredicate(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
         validateValue(criteria.values());
-        if (criteria.column().split(TABLE_FIELD_SEPARATOR).length > 1) {
-            return getJoinPredicate(criteria, root, cb, (c, p, v) -> c.greaterThanOrEqualTo(p, (Comparable) v));
-        }
-        return getPredicate(criteria, root, cb, (c, p, v) -> c.greaterThanOrEqualTo(p, (Comparable) v));
+        return getPredicate(criteria, column, from, cb, (c, p, v) -> c.lessThan(p, (Comparable) v));
     }
 
-    private Predicate getNoValueJoinPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb, NoValuePredicateProvider provider) {
-        String name = criteria.column();
-        Join<Object, Object> joinTable = getJoinTable(root, name);
-        String[] joinFields = getFields(name);
-        List<Predicate> predicates = new ArrayList<>();
-        for (String field : joinFields) {
-            predicates.add(provider.getPredicate(cb, joinTable.get(field)));
-        }
-        return cb.or(toArray(predicates));
+    private Predicate getLesserEqualPredicate(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
+        validateValue(criteria.values());
+        return getPredicate(criteria, column, from, cb, (c, p, v) -> c.lessThanOrEqualTo(p, (Comparable) v));
     }
 
-    private Predicate getNoValuePredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb, NoValuePredicateProvider provider) {
-        String[] fields = getFields(criteria.column());
-        List<Predicate> predicates = new ArrayList<>();
-        for (String field : fields) {
-            predicates.add(provider.getPredicate(cb, root.get(field)));
-        }
-        return cb.or(toArray(predicates));
+    private Predicate getGretherThanPredicate(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
+        validateValue(criteria.values());
+        return getPredicate(criteria, column, from, cb, (c, p, v) -> c.greaterThan(p, (Comparable) v));
     }
 
-    private Predicate getJoinPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb, PredicateProvider provider) {
-        String name = criteria.column();
-        Join<Object, Object> joinTable = getJoinTable(root, name);
-        String[] joinFields = getFields(name);
-        List<Predicate> predicates = new ArrayList<>();
-        for (String field : joinFields) {
-            Object value = valueConverter.getValue(joinTable.get(field), criteria.values().get(0));
-            predicates.add(provider.getPredicate(cb, joinTable.get(field), value));
-        }
-        return cb.or(toArray(predicates));
+    private Predicate getGretherEqualPredicate(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb) {
+        validateValue(criteria.values());
+        return getPredicate(criteria, column, from, cb, (c, p, v) -> c.greaterThanOrEqualTo(p, (Comparable) v));
     }
 
-    private Predicate getPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb, PredicateProvider provider) {
-        String[] fields = getFields(criteria.column());
-        List<Predicate> predicates = new ArrayList<>();
-        for (String field : fields) {
-            Object value = valueConverter.getValue(root.get(field), criteria.values().get(0));
-            predicates.add(provider.getPredicate(cb, root.get(field), value));
+    private Predicate getNoValuePredicate(ColumnPlan column, Path<?> from, CriteriaBuilder cb, NoValuePredicateProvider provider) {
+        List<Predicate> predicates = new ArrayList<>(column.fields().size());
+        for (FieldPlan field : column.fields()) {
+            predicates.add(provider.getPredicate(cb, from.get(field.name())));
         }
         return cb.or(toArray(predicates));
     }
 
-    private <D> Predicate getMultiValueJoinPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb, MultiValuePredicateProvider<D> provider) {
-        String name = criteria.column();
-        Join<Object, Object> joinTable = getJoinTable(root, name);
-        String[] joinFields = getFields(name);
-        List<Predicate> predicates = new ArrayList<>();
-        for (String field : joinFields) {
-            Set<Object> valueSet = criteria.values().stream()
-                    .map(value -> valueConverter.getValue(joinTable.get(field), value))
-                    .collect(Collectors.toSet());
-            predicates.add(provider.getPredicate(cb, joinTable.get(field), valueSet));
+    private Predicate getPredicate(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb, PredicateProvider provider) {
+        List<Predicate> predicates = new ArrayList<>(column.fields().size());
+        for (FieldPlan field : column.fields()) {
+            Object value = field.convert(criteria.values().get(0));
+            predicates.add(provider.getPredicate(cb, from.get(field.name()), value));
         }
         return cb.or(toArray(predicates));
     }
 
-    private <D> Predicate getMultiValuePredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb, MultiValuePredicateProvider<D> provider) {
-        String[] fields = getFields(criteria.column());
-        List<Predicate> predicates = new ArrayList<>();
-        for (String field : fields) {
-            Set<Object> valueSet = criteria.values().stream()
-                    .map(value -> valueConverter.getValue(root.get(field), value))
-                    .collect(Collectors.toSet());
-            predicates.add(provider.getPredicate(cb, root.get(field), valueSet));
+    private <D> Predicate getMultiValuePredicate(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb, MultiValuePredicateProvider<D> provider) {
+        List<Predicate> predicates = new ArrayList<>(column.fields().size());
+        for (FieldPlan field : column.fields()) {
+            predicates.add(provider.getPredicate(cb, from.get(field.name()), toValueSet(criteria, field)));
         }
         return cb.or(toArray(predicates));
     }
 
-    private Predicate getContainJoinPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb, StringPredicateProvider provider) {
-        String name = criteria.column();
-        Join<Object, Object> joinTable = getJoinTable(root, name);
-        String[] joinFields = getFields(name);
-        List<Predicate> predicates = new ArrayList<>();
-        for (String field : joinFields) {
-            criteria.values().stream()
-                    .map(value -> provider.getPredicate(cb, joinTable.get(field), value))
-                    .forEach(predicates::add);
+    private Set<Object> toValueSet(Criteria criteria, FieldPlan field) {
+        Set<Object> valueSet = new HashSet<>();
+        for (Object value : criteria.values()) {
+            valueSet.add(field.convert(value));
         }
-        return cb.or(toArray(predicates));
+        return valueSet;
     }
 
-    private Predicate getContainPredicate(Criteria criteria, Root<T> root, CriteriaBuilder cb, StringPredicateProvider provider) {
+    private Predicate getContainPredicate(Criteria criteria, ColumnPlan column, Path<?> from, CriteriaBuilder cb, StringPredicateProvider provider) {
         List<Predicate> predicates = new ArrayList<>();
-        String[] fields = getFields(criteria.column());
-        for (String field : fields) {
-            criteria.values().stream()
-                    .map(value -> provider.getPredicate(cb, root.get(field), value))
-                    .forEach(predicates::add);
+        for (FieldPlan field : column.fields()) {
+            Path<String> path = from.get(field.name());
+            for (Object value : criteria.values()) {
+                predicates.add(provider.getPredicate(cb, path, value));
+            }
         }
         return cb.or(toArray(predicates));
     }
@@ -303,14 +511,17 @@ public class SpecificationUtil<T extends BaseEntity> {
     }
 
     private String getContainsEscValue(String value) {
-        String newVal = value
+        return "%".concat(getEscValue(value)).concat("%").toLowerCase();
+    }
+
+    private String getEscValue(String value) {
+        return value
                 .replace("\\", "\\\\")
                 .replace("_", "\\_")
                 .replace("[", "\\[")
                 .replace("]", "\\]")
                 .replace("-", "\\-")
                 .replace("%", "\\%");
-        return "%".concat(newVal).concat("%").toLowerCase();
     }
 
     private void validateValue(List<Object> values) {
@@ -319,17 +530,47 @@ public class SpecificationUtil<T extends BaseEntity> {
         }
     }
 
-    private Join<Object, Object> getJoinTable(Root<T> root, String column) {
-        String[] split = column.split(TABLE_FIELD_SEPARATOR);
-        Join<Object, Object> join = root.join(split[0], JoinType.LEFT);
-        for (int i = 1; i < split.length - 1; i++) {
-            join = join.join(split[i], JoinType.LEFT);
+    /**
+     * Resolve the join of the column. The to-one joins already present in the query act as a per-query registry keyed
+     * by the association path and the join type, so all the criteria on the same to-one association path (even from
+     * the and/or specifications) share one join instead of joining the association again. A collection association is
+     * joined again for each criteria, so each criteria is matched against any element of the collection, i.e.
+     * {@code books.bookName = A and books.bookName = B} matches the authors having both the books.
+     */
+    private From<?, ?> getJoinTable(Root<T> root, ColumnPlan column) {
+        From<?, ?> join = root;
+        boolean reuse = true;
+        for (JoinPlan joinPlan : column.joins()) {
+            reuse &= !joinPlan.collection();
+            join = reuse ? getJoin(join, joinPlan.attribute(), JoinType.LEFT) : join.join(joinPlan.attribute(), JoinType.LEFT);
         }
         return join;
     }
 
-    private String[] getFields(String name) {
-        String[] split = name.split(TABLE_FIELD_SEPARATOR);
-        return split[split.length - 1].split(FIELD_SEPARATOR);
+    private From<?, ?> getJoin(From<?, ?> from, String attribute, JoinType joinType) {
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute) && joinType.equals(join.getJoinType()) && Objects.isNull(join.getOn())) {
+                return join;
+            }
+        }
+        return from.join(attribute, joinType);
+    }
+
+    private record CriteriaGroup(List<Criteria> criteria, boolean or) {
+    }
+
+    /**
+     * Node of the filter tree of the count query, either a criteria with its column plan or the and/or group of the
+     * child nodes.
+     */
+    private record FilterNode(Criteria criteria, ColumnPlan column, boolean or, List<FilterNode> children) {
+
+        boolean isCriteria() {
+            return Objects.nonNull(criteria);
+        }
+
+        boolean hasCollectionJoin() {
+            return isCriteria() ? column.hasCollectionJoin() : children.stream().anyMatch(FilterNode::hasCollectionJoin);
+        }
     }
 }
\ No newline at end of file
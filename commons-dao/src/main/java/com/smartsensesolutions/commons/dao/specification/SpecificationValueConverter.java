@@ -1,30 +1,181 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
 package com.smartsensesolutions.commons.dao.specification;
 
+import com.smartsensesolutions.commons.dao.specification.converter.TypeValueConverter;
 import jakarta.persistence.criteria.Path;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
+/**
+ * Registry of the converters used to convert the {@link com.smartsensesolutions.commons.dao.filter.Criteria} values
+ * to the java type of the entity field. Converter is resolved once per java type and applied on each value.
+ */
 @Component
 public class SpecificationValueConverter {
 
+    private final Map<Class<?>, Function<Object, Object>> converters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SpecificationValueConverter(ObjectProvider<TypeValueConverter<?>> customConverters) {
+        registerBuiltInConverters();
+        customConverters.orderedStream().forEach(this::register);
+    }
+
+    public SpecificationValueConverter(List<TypeValueConverter<?>> customConverters) {
+        registerBuiltInConverters();
+        customConverters.forEach(this::register);
+    }
+
+    private <T> void register(TypeValueConverter<T> converter) {
+        register(converter.getType(), converter::convert);
+    }
+
     public Object getValue(Path path, Object value) {
-        if (Objects.equals(path.getJavaType().getName(), "java.util.Date")) {
-            return new Date(Long.parseLong(value.toString()));
-        } else if (Objects.equals(path.getJavaType().getName(), "java.util.UUID")) {
-            return UUID.fromString(value.toString());
-        } else if (path.getJavaType().isEnum()) {
-            Class<? extends Enum> enumType = (Class<? extends Enum>) path.getJavaType();
-            for (Enum enumConstant : enumType.getEnumConstants()) {
-                if (enumConstant.toString().equals(value) || String.valueOf(enumConstant.ordinal()).equals(value)) {
-                    return enumConstant;
-                }
+        return getConverter(path.getJavaType()).apply(value);
+    }
+
+    /**
+     * Resolve the converter of the java type once, so it can be applied on each value without resolving the type again.
+     * Values which are already of the java type are returned as it is.
+     *
+     * @param javaType - Indicates the java type of the field.
+     * @return Converter from criteria value to the java type.
+     */
+    public Function<Object, Object> getConverter(Class<?> javaType) {
+        Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(javaType);
+        return converters.computeIfAbsent(type, this::createConverter);
+    }
+
+    private Function<Object, Object> createConverter(Class<?> type) {
+        if (type.isEnum()) {
+            return getEnumConverter(type);
+        }
+        return value -> value;
+    }
+
+    private <T> void register(Class<T> type, Function<Object, ? extends T> converter) {
+        converters.put(type, value -> {
+            if (Objects.isNull(value) || type.isInstance(value)) {
+                return value;
+            }
+            try {
+                return converter.apply(value);
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("Invalid " + type.getSimpleName() + " value", ex);
+            }
+        });
+    }
+
+    private void registerBuiltInConverters() {
+        register(String.class, Object::toString);
+        register(Date.class, value -> value instanceof Number || isNumeric(value.toString())
+                ? new Date(toLong(value)) : Timestamp.from(Instant.parse(value.toString())));
+        register(Timestamp.class, value -> value instanceof Date date ? new Timestamp(date.getTime())
+                : value instanceof Number || isNumeric(value.toString()) ? new Timestamp(toLong(value)) : Timestamp.from(Instant.parse(value.toString())));
+        register(UUID.class, value -> UUID.fromString(value.toString()));
+        register(Long.class, this::toLong);
+        register(Integer.class, value -> value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString().trim()));
+        register(Short.class, value -> value instanceof Number number ? number.shortValue() : Short.parseShort(value.toString().trim()));
+        register(Byte.class, value -> value instanceof Number number ? number.byteValue() : Byte.parseByte(value.toString().trim()));
+        register(Double.class, value -> value instanceof Number number ? number.doubleValue() : Double.parseDouble(value.toString().trim()));
+        register(Float.class, value -> value instanceof Number number ? number.floatValue() : Float.parseFloat(value.toString().trim()));
+        register(BigDecimal.class, value -> new BigDecimal(value.toString().trim()));
+        register(BigInteger.class, value -> new BigInteger(value.toString().trim()));
+        register(Boolean.class, this::toBoolean);
+        register(LocalDate.class, value -> LocalDate.parse(value.toString()));
+        register(LocalDateTime.class, value -> LocalDateTime.parse(value.toString()));
+        register(LocalTime.class, value -> LocalTime.parse(value.toString()));
+        register(OffsetDateTime.class, value -> OffsetDateTime.parse(value.toString()));
+        register(ZonedDateTime.class, value -> ZonedDateTime.parse(value.toString()));
+        register(Instant.class, value -> value instanceof Number || isNumeric(value.toString())
+                ? Instant.ofEpochMilli(toLong(value)) : Instant.parse(value.toString()));
+    }
+
+    /**
+     * Enum is matched by the constant name, {@code toString()} or the ordinal with the O(1) lookup map.
+     */
+    private Function<Object, Object> getEnumConverter(Class<?> enumType) {
+        Object[] constants = enumType.getEnumConstants();
+        Map<String, Object> lookup = new HashMap<>();
+        for (Object constant : constants) {
+            lookup.put(String.valueOf(((Enum<?>) constant).ordinal()), constant);
+        }
+        for (Object constant : constants) {
+            lookup.put(constant.toString(), constant);
+            lookup.put(((Enum<?>) constant).name(), constant);
+        }
+        return value -> {
+            if (Objects.isNull(value) || enumType.isInstance(value)) {
+                return value;
+            }
+            Object constant = value instanceof Number number && number.intValue() >= 0 && number.intValue() < constants.length
+                    ? constants[number.intValue()] : lookup.get(value.toString());
+            if (Objects.isNull(constant)) {
+                throw new IllegalArgumentException("Invalid Enum Value");
+            }
+            return constant;
+        };
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString().trim());
+    }
+
+    private Boolean toBoolean(Object value) {
+        String text = value.toString().trim();
+        if ("true".equalsIgnoreCase(text)) {
+            return Boolean.TRUE;
+        } else if ("false".equalsIgnoreCase(text)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("Invalid Boolean Value");
+    }
+
+    private boolean isNumeric(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i)) && !(i == 0 && value.charAt(i) == '-')) {
+                return false;
             }
-            throw new IllegalArgumentException("Invalid Enum Value");
-        } else {
-            return value;
         }
+        return true;
     }
 }
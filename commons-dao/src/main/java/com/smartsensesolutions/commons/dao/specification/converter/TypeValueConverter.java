@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.converter;
+
+/**
+ * Converter of the {@link com.smartsensesolutions.commons.dao.filter.Criteria} value to the java type of the entity
+ * field. Each @{@link org.springframework.stereotype.Component} implementing TypeValueConverter is registered to the
+ * {@link com.smartsensesolutions.commons.dao.specification.SpecificationValueConverter} and overrides the built-in
+ * converter of the same type.
+ *
+ * @param <T> - Indicates the java type of the entity field.
+ */
+public interface TypeValueConverter<T> {
+
+    /**
+     * @return Java type of the entity field supported by the converter.
+     */
+    Class<T> getType();
+
+    /**
+     * Convert the criteria value to the java type.
+     *
+     * @param value - Indicates the criteria value, never null.
+     * @return Converted value
+     */
+    T convert(Object value);
+}
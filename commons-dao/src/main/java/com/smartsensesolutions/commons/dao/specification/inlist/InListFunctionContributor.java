@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.inlist;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the functions of the {@link InListStrategy#ARRAY} and {@link InListStrategy#TEMP_TABLE} strategies on
+ * PostgreSQL and H2. The array match is {@code (field = any(?))} on PostgreSQL and {@code array_contains(?, field)} on
+ * H2, the staged values are matched by {@code field in (select ... from commons_dao_in_list where list_id = ?)}.
+ */
+public class InListFunctionContributor implements FunctionContributor {
+
+    public static final String IN_ARRAY = "commons_dao_in_array";
+    public static final String IN_STAGED_NUMBER = "commons_dao_in_staged_number";
+    public static final String IN_STAGED_STRING = "commons_dao_in_staged_string";
+    public static final String TEMP_TABLE = "commons_dao_in_list";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        Dialect dialect = functionContributions.getDialect();
+        if (!(dialect instanceof PostgreSQLDialect) && !(dialect instanceof H2Dialect)) {
+            return;
+        }
+        SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        registry.registerPattern(IN_ARRAY, dialect instanceof PostgreSQLDialect ? "(?1 = any(?2))" : "array_contains(?2, ?1)", booleanType);
+        registry.registerPattern(IN_STAGED_NUMBER, getStagedPattern("number_value"), booleanType);
+        registry.registerPattern(IN_STAGED_STRING, getStagedPattern("string_value"), booleanType);
+    }
+
+    private String getStagedPattern(String column) {
+        return "(?1 in (select staged." + column + " from " + TEMP_TABLE + " staged where staged.list_id = ?2))";
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.inlist;
+
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnit;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates the {@code IN} predicate with the {@link InListStrategy} chosen by the number of values. The lists up to
+ * {@code smartsense.commons.dao.in-list.array-threshold} values are inlined, the larger lists of the number, string and
+ * UUID fields are bound as one array parameter, and the lists above {@code temp-table-threshold} values of the integral
+ * and string fields are staged into the temporary table {@value InListFunctionContributor#TEMP_TABLE}, so the statement
+ * and its plan do not depend on the number of values. The array and the temporary table are supported on PostgreSQL
+ * and H2, the lists are inlined on the other databases. Both the thresholds are disabled by default.
+ * <p>
+ * Generating the predicate has no side effect, the values are staged beforehand by {@link #stage} within the
+ * transaction of the queries, and the predicate references the staged list, or falls back to the array when the
+ * values are not staged. The temporary table is created with {@code on commit delete rows}, so the staged values are
+ * removed at the end of the transaction. The table is not created in a read-only transaction, i.e. in the filter
+ * methods, the {@link #POSTGRESQL_TEMP_TABLE_DDL} can be executed as the connection init SQL of the pool, otherwise
+ * the array is used in the read-only transactions.
+ */
+@Slf4j
+@Component
+public class InListPredicateFactory {
+
+    public static final String POSTGRESQL_TEMP_TABLE_DDL = "create temporary table if not exists " + InListFunctionContributor.TEMP_TABLE
+            + " (list_id integer not null, number_value bigint, string_value varchar) on commit delete rows";
+
+    private static final String H2_TEMP_TABLE_DDL = "create local temporary table if not exists " + InListFunctionContributor.TEMP_TABLE
+            + " (list_id integer not null, number_value bigint, string_value varchar) on commit delete rows transactional";
+    private static final Set<Class<?>> INTEGRAL_TYPES = Set.of(Long.class, Integer.class, Short.class, Byte.class);
+    private static final int STAGING_BATCH_SIZE = 1000;
+
+    private final CommonsDaoProperties.InList config;
+    private final AtomicInteger listIds = new AtomicInteger();
+    private final AtomicBoolean missingTableLogged = new AtomicBoolean();
+    private volatile Dialect dialect;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    public InListPredicateFactory(CommonsDaoProperties properties) {
+        this.config = properties.getInList();
+    }
+
+    /**
+     * Generate the predicate matching the field with any of the values.
+     *
+     * @param cb     - Indicates the CriteriaBuilder.
+     * @param path   - Indicates the field.
+     * @param values - Indicates the values converted to the field type.
+     * @return Predicate
+     */
+    public Predicate in(CriteriaBuilder cb, Path<?> path, Collection<?> values) {
+        return in(cb, path, values, values);
+    }
+
+    /**
+     * Generate the predicate matching the field with any of the values, the values staged by {@link #stage} for the
+     * same source in the current transaction are matched with the temporary table.
+     *
+     * @param cb     - Indicates the CriteriaBuilder.
+     * @param path   - Indicates the field.
+     * @param values - Indicates the values converted to the field type.
+     * @param source - Indicates the source of the values i.e. the values of the criteria before the conversion.
+     * @return Predicate
+     */
+    public Predicate in(CriteriaBuilder cb, Path<?> path, Collection<?> values, Object source) {
+        Class<?> javaType = ClassUtils.resolvePrimitiveIfNecessary(path.getJavaType());
+        InListStrategy strategy = getStrategy(javaType, values.size());
+        if (InListStrategy.TEMP_TABLE.equals(strategy)) {
+            Integer listId = getStagedList(javaType, source);
+            if (Objects.nonNull(listId)) {
+                String function = String.class.equals(javaType) ? InListFunctionContributor.IN_STAGED_STRING : InListFunctionContributor.IN_STAGED_NUMBER;
+                return cb.isTrue(cb.function(function, Boolean.class, path, cb.literal(listId)));
+            }
+            strategy = InListStrategy.ARRAY;
+        }
+        if (InListStrategy.ARRAY.equals(strategy)) {
+            Object array = Array.newInstance(javaType, values.size());
+            int index = 0;
+            for (Object value : values) {
+                Array.set(array, index++, value);
+            }
+            return cb.isTrue(cb.function(InListFunctionContributor.IN_ARRAY, Boolean.class, path, cb.literal(array)));
+        }
+        return path.in(values);
+    }
+
+    /**
+     * @return {@code true} when the values above the {@code temp-table-threshold} are staged.
+     */
+    public boolean isStagingEnabled() {
+        return config.getTempTableThreshold() > 0;
+    }
+
+    /**
+     * Stage the values into the temporary table when the {@link InListStrategy#TEMP_TABLE} applies, once per source and
+     * transaction. The staged list is bound to the transaction, and is unbound while it is suspended as the suspending
+     * transaction uses another connection. Nothing is staged without a transaction.
+     *
+     * @param javaType - Indicates the field type.
+     * @param values   - Indicates the values converted to the field type.
+     * @param source   - Indicates the source of the values i.e. the values of the criteria before the conversion.
+     */
+    public void stage(Class<?> javaType, Collection<?> values, Object source) {
+        Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(javaType);
+        if (!InListStrategy.TEMP_TABLE.equals(getStrategy(type, values.size()))
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<StagedListKey, Integer> stagedLists = (Map<StagedListKey, Integer>) TransactionSynchronizationManager.getResource(this);
+        if (Objects.isNull(stagedLists)) {
+            stagedLists = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, stagedLists);
+            TransactionSynchronizationManager.registerSynchronization(new StagedListSynchronization(stagedLists));
+        }
+        StagedListKey key = new StagedListKey(source, String.class.equals(type));
+        if (!stagedLists.containsKey(key)) {
+            stagedLists.put(key, stage(type, values));
+        }
+    }
+
+    /**
+     * Choose the strategy of the {@code IN} predicate.
+     *
+     * @param javaType - Indicates the field type.
+     * @param size     - Indicates the number of values.
+     * @return InListStrategy
+     */
+    public InListStrategy getStrategy(Class<?> javaType, int size) {
+        if (!isArraySupported(javaType)) {
+            return InListStrategy.INLINE;
+        }
+        if (config.getTempTableThreshold() > 0 && size > config.getTempTableThreshold()
+                && (INTEGRAL_TYPES.contains(javaType) || String.class.equals(javaType))
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            return InListStrategy.TEMP_TABLE;
+        }
+        if (config.getArrayThreshold() > 0 && size > config.getArrayThreshold()) {
+            return InListStrategy.ARRAY;
+        }
+        return InListStrategy.INLINE;
+    }
+
+    private boolean isArraySupported(Class<?> javaType) {
+        Dialect current = getDialect();
+        return (current instanceof PostgreSQLDialect || current instanceof H2Dialect)
+                && (Number.class.isAssignableFrom(javaType) || String.class.equals(javaType) || UUID.class.equals(javaType));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Integer getStagedList(Class<?> javaType, Object source) {
+        Map<StagedListKey, Integer> stagedLists = (Map<StagedListKey, Integer>) TransactionSynchronizationManager.getResource(this);
+        return Objects.isNull(stagedLists) ? null : stagedLists.get(new StagedListKey(source, String.class.equals(javaType)));
+    }
+
+    /**
+     * Insert the values into the temporary table with a new list id.
+     *
+     * @return List id, {@code null} if the temporary table does not exist and can not be created.
+     */
+    private Integer stage(Class<?> javaType, Collection<?> values) {
+        int listId = listIds.updateAndGet(id -> id == Integer.MAX_VALUE ? 1 : id + 1);
+        boolean number = !String.class.equals(javaType);
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            if (!prepareTempTable(connection)) {
+                return null;
+            }
+            String column = number ? "number_value" : "string_value";
+            try (PreparedStatement insert = connection.prepareStatement("insert into " + InListFunctionContributor.TEMP_TABLE
+                    + " (list_id, " + column + ") values (?, ?)")) {
+                int count = 0;
+                for (Object value : values) {
+                    insert.setInt(1, listId);
+                    if (number) {
+                        insert.setLong(2, ((Number) value).longValue());
+                    } else {
+                        insert.setString(2, (String) value);
+                    }
+                    insert.addBatch();
+                    if (++count % STAGING_BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            return listId;
+        });
+    }
+
+    /**
+     * Create the temporary table if not exists, in the read-only transaction the table is not created and the existing
+     * table of the connection is used.
+     */
+    private boolean prepareTempTable(Connection connection) throws SQLException {
+        boolean h2 = getDialect() instanceof H2Dialect;
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            execute(connection, h2 ? H2_TEMP_TABLE_DDL : POSTGRESQL_TEMP_TABLE_DDL);
+            return true;
+        }
+        String sql = h2 ? "select count(*) > 0 from information_schema.tables where table_name = '" + InListFunctionContributor.TEMP_TABLE.toUpperCase(Locale.ROOT) + "'"
+                : "select to_regclass('pg_temp." + InListFunctionContributor.TEMP_TABLE + "') is not null";
+        boolean exists;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            exists = resultSet.next() && resultSet.getBoolean(1);
+        }
+        if (!exists && missingTableLogged.compareAndSet(false, true)) {
+            log.warn("Temporary table {} does not exist in the read-only transaction, the values are bound as array. "
+                    + "Create it with the connection init SQL to stage the values", InListFunctionContributor.TEMP_TABLE);
+        }
+        return exists;
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private Dialect getDialect() {
+        if (Objects.isNull(dialect)) {
+            dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        }
+        return dialect;
+    }
+
+    /**
+     * Key of the staged list, the source is compared by the identity so the large value lists are not hashed.
+     */
+    private record StagedListKey(Object source, boolean string) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof StagedListKey key && key.source == source && key.string == string;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(source) + Boolean.hashCode(string);
+        }
+    }
+
+    private final class StagedListSynchronization implements TransactionSynchronization {
+
+        private final Map<StagedListKey, Integer> stagedLists;
+
+        private StagedListSynchronization(Map<StagedListKey, Integer> stagedLists) {
+            this.stagedLists = stagedLists;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(InListPredicateFactory.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(InListPredicateFactory.this, stagedLists);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(InListPredicateFactory.this);
+        }
+    }
+}
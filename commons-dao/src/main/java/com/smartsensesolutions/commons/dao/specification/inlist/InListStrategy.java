@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.inlist;
+
+/**
+ * Strategy of the {@code IN} and {@code NOT_IN} predicate, chosen by {@link InListPredicateFactory} by the number of
+ * values, the field type and the dialect.
+ */
+public enum InListStrategy {
+
+    /**
+     * One bind parameter per value, padded to the next power of two by {@code hibernate.query.in_clause_parameter_padding}.
+     */
+    INLINE,
+
+    /**
+     * One array bind parameter, {@code field = any(?)} on PostgreSQL and {@code array_contains(?, field)} on H2.
+     */
+    ARRAY,
+
+    /**
+     * The values are inserted into the session temporary table and matched by a subquery.
+     */
+    TEMP_TABLE
+}
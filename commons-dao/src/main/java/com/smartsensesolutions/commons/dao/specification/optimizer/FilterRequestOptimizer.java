@@ -0,0 +1,393 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.optimizer;
+
+import com.smartsensesolutions.commons.dao.filter.Criteria;
+import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.operator.CriteriaOperator;
+import com.smartsensesolutions.commons.dao.operator.Operator;
+import com.smartsensesolutions.commons.dao.specification.plan.ColumnPlan;
+import com.smartsensesolutions.commons.dao.specification.plan.FieldPlan;
+import com.smartsensesolutions.commons.dao.specification.plan.FilterPlanCache;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Rewrites the {@link FilterRequest} into the canonical form before the specification is generated, so the
+ * equivalent requests produce the same SQL:
+ * <ul>
+ *     <li>duplicate criteria and duplicate values are removed, values of {@code IN} are ordered,</li>
+ *     <li>{@code EQUALS}/{@code IN} on the same column of the "or" group are folded into one {@code IN},</li>
+ *     <li>{@code EQUALS}/{@code IN} on the same column of the "and" group are intersected,</li>
+ *     <li>{@code CONTAIN}, {@code STARTS_WITH} and {@code ENDS_WITH} of the empty string are rewritten to
+ *     {@code NOT_NULL}, and {@code NOT_NULL} of the non-optional field is dropped,</li>
+ *     <li>contradictions, e.g. {@code NULL} and {@code NOT_NULL} of the same column, mark the request unsatisfiable,</li>
+ *     <li>criteria are sorted by column, operator and values.</li>
+ * </ul>
+ * The given FilterRequest is not modified.
+ */
+@Component
+@RequiredArgsConstructor
+public class FilterRequestOptimizer {
+
+    private static final Set<Operator> NO_VALUE_OPERATORS = EnumSet.of(Operator.NULL, Operator.NOT_NULL, Operator.TRUE, Operator.FALSE);
+    private static final Set<Operator> SINGLE_VALUE_OPERATORS = EnumSet.of(Operator.EQUALS, Operator.NOT_EQUAL,
+            Operator.GREATER_THAN, Operator.GREATER_EQUALS, Operator.LESSER_THAN, Operator.LESSER_EQUALS);
+    private static final Set<Operator> MATCH_ALL_OPERATORS = EnumSet.of(Operator.CONTAIN, Operator.STARTS_WITH, Operator.ENDS_WITH);
+    private static final Set<Operator> MATCH_NONE_OPERATORS = EnumSet.of(Operator.NOT_CONTAIN, Operator.NOT_STARTS_WITH, Operator.NOT_ENDS_WITH);
+    private static final Comparator<Criteria> CRITERIA_ORDER = Comparator.comparing(Criteria::column)
+            .thenComparing(Criteria::operator)
+            .thenComparing(criteria -> String.valueOf(criteria.values()));
+
+    private final FilterPlanCache planCache;
+
+    /**
+     * Optimize the criteria of the FilterRequest.
+     *
+     * @param entityType - Indicates the root entity type.
+     * @param filter     - Indicates the FilterRequest.
+     * @return OptimizedFilter with the canonical copy of the FilterRequest.
+     */
+    public OptimizedFilter optimize(ManagedType<?> entityType, FilterRequest filter) {
+        FilterRequest optimized = copy(filter);
+        if (CollectionUtils.isEmpty(filter.getCriteria())) {
+            return new OptimizedFilter(optimized, false);
+        }
+        validate(entityType, filter.getCriteria());
+        validate(entityType, filter.getOrCriteria());
+        boolean or = CriteriaOperator.OR.equals(filter.getCriteriaOperator());
+        if (CollectionUtils.isEmpty(filter.getOrCriteria())) {
+            Group group = optimize(entityType, filter.getCriteria(), or);
+            return toResult(optimized, group, or, null);
+        }
+        Group and = optimize(entityType, filter.getCriteria(), false);
+        Group orGroup = optimize(entityType, filter.getOrCriteria(), true);
+        if (or) {
+            if (and.isTrue() || orGroup.isTrue()) {
+                return toResult(optimized, Group.TRUE, false, null);
+            } else if (and.isFalse()) {
+                return toResult(optimized, orGroup, true, null);
+            } else if (orGroup.isFalse()) {
+                return toResult(optimized, and, false, null);
+            }
+        } else {
+            if (and.isFalse() || orGroup.isFalse()) {
+                return toResult(optimized, Group.FALSE, false, null);
+            } else if (orGroup.isTrue()) {
+                return toResult(optimized, and, false, null);
+            } else if (and.isTrue()) {
+                return toResult(optimized, orGroup, true, null);
+            }
+        }
+        return toResult(optimized, and, or, orGroup);
+    }
+
+    /**
+     * Validate the values of all the criteria before any of them is resolved to the constant, so the malformed values
+     * are rejected the same as without the optimization even if the request turns out unsatisfiable.
+     */
+    private void validate(ManagedType<?> entityType, List<Criteria> criteriaList) {
+        if (CollectionUtils.isEmpty(criteriaList)) {
+            return;
+        }
+        for (Criteria criteria : criteriaList) {
+            Operator operator = criteria.operator();
+            if (NO_VALUE_OPERATORS.contains(operator)) {
+                continue;
+            }
+            if (CollectionUtils.isEmpty(criteria.values())) {
+                throw new IllegalArgumentException("value/s require");
+            }
+            if (!SINGLE_VALUE_OPERATORS.contains(operator) && !Operator.IN.equals(operator) && !Operator.NOT_IN.equals(operator)) {
+                continue;
+            }
+            List<Object> values = SINGLE_VALUE_OPERATORS.contains(operator) ? criteria.values().subList(0, 1) : criteria.values();
+            ColumnPlan column = planCache.getPlan(entityType, List.of(criteria)).criteria().get(0).column();
+            for (FieldPlan field : column.fields()) {
+                values.stream().filter(Objects::nonNull).forEach(field::convert);
+            }
+        }
+    }
+
+    private OptimizedFilter toResult(FilterRequest optimized, Group group, boolean or, Group orGroup) {
+        if (group.isFalse()) {
+            return new OptimizedFilter(optimized, true);
+        }
+        optimized.setCriteriaOperator(or ? CriteriaOperator.OR : CriteriaOperator.AND);
+        optimized.setCriteria(group.isTrue() ? null : group.criteria());
+        optimized.setOrCriteria(Objects.isNull(orGroup) ? null : orGroup.criteria());
+        return new OptimizedFilter(optimized, false);
+    }
+
+    private Group optimize(ManagedType<?> entityType, List<Criteria> criteriaList, boolean or) {
+        Map<String, List<Term>> columns = new LinkedHashMap<>();
+        List<Criteria> result = new ArrayList<>();
+        for (Criteria criteria : criteriaList) {
+            if (!NO_VALUE_OPERATORS.contains(criteria.operator()) && CollectionUtils.isEmpty(criteria.values())) {
+                addDistinct(result, criteria);
+                continue;
+            }
+            Term term = normalize(entityType, criteria);
+            if (term.constant() != null) {
+                if (term.constant() == or) {
+                    return term.constant() ? Group.TRUE : Group.FALSE;
+                }
+                continue;
+            }
+            columns.computeIfAbsent(criteria.column(), column -> new ArrayList<>()).add(term);
+        }
+        for (List<Term> terms : columns.values()) {
+            Boolean constant = or ? mergeOr(terms, result) : mergeAnd(terms, result);
+            if (constant != null) {
+                return constant ? Group.TRUE : Group.FALSE;
+            }
+        }
+        if (result.isEmpty()) {
+            return or ? Group.FALSE : Group.TRUE;
+        }
+        result.sort(CRITERIA_ORDER);
+        return new Group(result, null);
+    }
+
+    /**
+     * Rewrite the single criteria, or resolve it to the constant.
+     */
+    private Term normalize(ManagedType<?> entityType, Criteria criteria) {
+        ColumnPlan column = planCache.getPlan(entityType, List.of(criteria)).criteria().get(0).column();
+        FieldPlan field = column.fields().size() == 1 ? column.fields().get(0) : null;
+        Operator operator = criteria.operator();
+        List<Object> values = criteria.values();
+        if (MATCH_ALL_OPERATORS.contains(operator) && !CollectionUtils.isEmpty(values) && values.contains("")) {
+            operator = Operator.NOT_NULL;
+        } else if (MATCH_NONE_OPERATORS.contains(operator) && !CollectionUtils.isEmpty(values)
+                && values.stream().allMatch(""::equals)) {
+            return Term.constant(false);
+        }
+        if (NO_VALUE_OPERATORS.contains(operator)) {
+            if (isNonOptional(entityType, column) && (Operator.NULL.equals(operator) || Operator.NOT_NULL.equals(operator))) {
+                return Term.constant(Operator.NOT_NULL.equals(operator));
+            }
+            return new Term(new Criteria(criteria.column(), operator, List.of()), field, null);
+        }
+        if (SINGLE_VALUE_OPERATORS.contains(operator)) {
+            return new Term(new Criteria(criteria.column(), operator, Collections.singletonList(values.get(0))), field, null);
+        }
+        if (Operator.IN.equals(operator) || Operator.NOT_IN.equals(operator)) {
+            Map<Object, Object> distinct = distinct(field, values);
+            if (distinct.size() == 1) {
+                operator = Operator.IN.equals(operator) ? Operator.EQUALS : Operator.NOT_EQUAL;
+            }
+            return new Term(new Criteria(criteria.column(), operator, sorted(distinct)), field, null);
+        }
+        return new Term(new Criteria(criteria.column(), operator, new ArrayList<>(distinct(null, values).values())), field, null);
+    }
+
+    /**
+     * Merge the criteria of the same column of the "or" group.
+     *
+     * @return TRUE if the column makes the group always true, otherwise null.
+     */
+    private Boolean mergeOr(List<Term> terms, List<Criteria> result) {
+        Map<Object, Object> inValues = new LinkedHashMap<>();
+        boolean isNull = false;
+        boolean isNotNull = false;
+        FieldPlan field = terms.get(0).field();
+        for (Term term : terms) {
+            Operator operator = term.criteria().operator();
+            if (Operator.EQUALS.equals(operator) || Operator.IN.equals(operator)) {
+                inValues.putAll(distinct(field, term.criteria().values()));
+                continue;
+            }
+            isNull |= Operator.NULL.equals(operator);
+            isNotNull |= Operator.NOT_NULL.equals(operator);
+            addDistinct(result, term.criteria());
+        }
+        if (isNull && isNotNull) {
+            return Boolean.TRUE;
+        }
+        addValues(result, terms.get(0).criteria().column(), inValues, Operator.EQUALS, Operator.IN);
+        return null;
+    }
+
+    /**
+     * Merge the criteria of the same column of the "and" group.
+     *
+     * @return FALSE if the criteria of the column contradict each other, otherwise null.
+     */
+    private Boolean mergeAnd(List<Term> terms, List<Criteria> result) {
+        FieldPlan field = terms.get(0).field();
+        if (field == null) {
+            terms.forEach(term -> addDistinct(result, term.criteria()));
+            return null;
+        }
+        Set<Operator> operators = EnumSet.noneOf(Operator.class);
+        terms.forEach(term -> operators.add(term.criteria().operator()));
+        if (operators.contains(Operator.NULL) && operators.size() > 1
+                || operators.contains(Operator.TRUE) && operators.contains(Operator.FALSE)) {
+            return Boolean.FALSE;
+        }
+        boolean exact = isExactType(field.javaType());
+        Map<Object, Object> inValues = null;
+        Map<Object, Object> notInValues = new LinkedHashMap<>();
+        List<Criteria> others = new ArrayList<>();
+        for (Term term : terms) {
+            Criteria criteria = term.criteria();
+            Operator operator = criteria.operator();
+            if (exact && (Operator.EQUALS.equals(operator) || Operator.IN.equals(operator))) {
+                Map<Object, Object> values = distinct(field, criteria.values());
+                if (inValues == null) {
+                    inValues = values;
+                } else {
+                    inValues.keySet().retainAll(values.keySet());
+                }
+            } else if (exact && (Operator.NOT_EQUAL.equals(operator) || Operator.NOT_IN.equals(operator))) {
+                notInValues.putAll(distinct(field, criteria.values()));
+            } else {
+                others.add(criteria);
+            }
+        }
+        if (inValues != null) {
+            inValues.keySet().removeAll(notInValues.keySet());
+            if (inValues.isEmpty()) {
+                return Boolean.FALSE;
+            }
+            others.removeIf(criteria -> Operator.NOT_NULL.equals(criteria.operator()));
+            addValues(result, terms.get(0).criteria().column(), inValues, Operator.EQUALS, Operator.IN);
+        } else {
+            addValues(result, terms.get(0).criteria().column(), notInValues, Operator.NOT_EQUAL, Operator.NOT_IN);
+        }
+        others.forEach(criteria -> addDistinct(result, criteria));
+        return null;
+    }
+
+    private void addValues(List<Criteria> result, String column, Map<Object, Object> values, Operator single, Operator multiple) {
+        if (values.isEmpty()) {
+            return;
+        }
+        result.add(new Criteria(column, values.size() == 1 ? single : multiple, sorted(values)));
+    }
+
+    private void addDistinct(List<Criteria> result, Criteria criteria) {
+        if (!result.contains(criteria)) {
+            result.add(criteria);
+        }
+    }
+
+    /**
+     * Distinct values keyed by the converted value, the original value is kept for the generated criteria.
+     */
+    private Map<Object, Object> distinct(FieldPlan field, List<Object> values) {
+        Map<Object, Object> distinct = new LinkedHashMap<>();
+        for (Object value : values) {
+            distinct.putIfAbsent(getKey(field, value), value);
+        }
+        return distinct;
+    }
+
+    private Object getKey(FieldPlan field, Object value) {
+        if (field == null || value == null) {
+            return value;
+        }
+        Object converted = field.convert(value);
+        return converted instanceof BigDecimal decimal ? decimal.stripTrailingZeros() : converted;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Object> sorted(Map<Object, Object> values) {
+        List<Map.Entry<Object, Object>> entries = new ArrayList<>(values.entrySet());
+        if (entries.stream().allMatch(entry -> entry.getKey() instanceof Comparable)
+                && entries.stream().map(entry -> entry.getKey().getClass()).distinct().count() == 1) {
+            entries.sort((first, second) -> ((Comparable) first.getKey()).compareTo(second.getKey()));
+        } else {
+            entries.sort(Comparator.comparing(entry -> String.valueOf(entry.getKey())));
+        }
+        return entries.stream().map(Map.Entry::getValue).toList();
+    }
+
+    /**
+     * Types of which the different java values are always different database values, regardless of the collation.
+     */
+    private boolean isExactType(Class<?> javaType) {
+        return javaType.isPrimitive() || Number.class.isAssignableFrom(javaType) || javaType.isEnum()
+                || Boolean.class.equals(javaType) || UUID.class.equals(javaType) || Date.class.equals(javaType)
+                || Instant.class.equals(javaType) || LocalDate.class.equals(javaType)
+                || LocalDateTime.class.equals(javaType) || LocalTime.class.equals(javaType);
+    }
+
+    private boolean isNonOptional(ManagedType<?> entityType, ColumnPlan column) {
+        if (column.isJoin() || column.fields().size() != 1) {
+            return false;
+        }
+        Attribute<?, ?> attribute = entityType.getAttribute(column.fields().get(0).name());
+        return attribute instanceof SingularAttribute<?, ?> singularAttribute && !singularAttribute.isOptional();
+    }
+
+    private FilterRequest copy(FilterRequest filter) {
+        FilterRequest copy = new FilterRequest();
+        copy.setPage(filter.getPage());
+        copy.setSize(filter.getSize());
+        copy.setSort(Objects.isNull(filter.getSort()) ? null : new ArrayList<>(filter.getSort()));
+        copy.setCriteriaOperator(filter.getCriteriaOperator());
+        copy.setCriteria(filter.getCriteria());
+        copy.setOrCriteria(filter.getOrCriteria());
+        copy.setAfter(filter.getAfter());
+        copy.setFields(filter.getFields());
+        copy.setFetchPlan(filter.getFetchPlan());
+        return copy;
+    }
+
+    private record Term(Criteria criteria, FieldPlan field, Boolean constant) {
+
+        static Term constant(boolean value) {
+            return new Term(null, null, value);
+        }
+    }
+
+    private record Group(List<Criteria> criteria, Boolean constant) {
+        static final Group TRUE = new Group(List.of(), Boolean.TRUE);
+        static final Group FALSE = new Group(List.of(), Boolean.FALSE);
+
+        boolean isTrue() {
+            return Boolean.TRUE.equals(constant);
+        }
+
+        boolean isFalse() {
+            return Boolean.FALSE.equals(constant);
+        }
+    }
+}
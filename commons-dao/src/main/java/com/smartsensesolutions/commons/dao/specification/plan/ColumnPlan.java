@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.plan;
+
+import java.util.List;
+
+/**
+ * Resolved {@link com.smartsensesolutions.commons.dao.filter.Criteria#column()}, i.e. the join chain separated by
+ * {@code .} and the fields separated by {@code ,}.
+ *
+ * @param column - Indicates the column as given in the criteria.
+ * @param joins  - Indicates the join chain from the root entity, empty if the fields belong to the root entity.
+ * @param fields - Indicates the fields of the last entity in the join chain.
+ */
+public record ColumnPlan(String column, List<JoinPlan> joins, List<FieldPlan> fields) {
+
+    public boolean isJoin() {
+        return !joins.isEmpty();
+    }
+
+    /**
+     * @return true if any association of the join chain is a to-many association.
+     */
+    public boolean hasCollectionJoin() {
+        return joins.stream().anyMatch(JoinPlan::collection);
+    }
+
+    /**
+     * @return true if the column only refers the id of a to-one association whose foreign key is stored in the root
+     * entity table, so it can be resolved without join.
+     */
+    public boolean isForeignKeyReference() {
+        return joins.size() == 1 && joins.get(0).foreignKey() && fields.stream().allMatch(FieldPlan::id);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.plan;
+
+import java.util.function.Function;
+
+/**
+ * Resolved field of the {@link ColumnPlan}.
+ *
+ * @param name      - Indicates the field name of the entity.
+ * @param javaType  - Indicates the java type of the field.
+ * @param id        - Indicates whether the field is the @{@link jakarta.persistence.Id} of the entity.
+ * @param converter - Indicates the converter used to convert the criteria value to the java type of the field.
+ */
+public record FieldPlan(String name, Class<?> javaType, boolean id, Function<Object, Object> converter) {
+
+    public Object convert(Object value) {
+        return converter.apply(value);
+    }
+}
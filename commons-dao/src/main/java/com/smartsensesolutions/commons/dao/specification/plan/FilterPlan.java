@@ -0,0 +1,30 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.plan;
+
+import java.util.List;
+
+/**
+ * Compiled list of criteria for an @{@link jakarta.persistence.Entity}. Plan holds everything that only depends on the
+ * shape of the criteria, i.e. column paths, join chains, java types and value converters, so only the values needs to
+ * be bound while generating the predicates.
+ *
+ * @param entityType - Indicates the root entity class.
+ * @param criteria   - Indicates the compiled criteria in the same order as the criteria list.
+ */
+public record FilterPlan(Class<?> entityType, List<CriterionPlan> criteria) {
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.plan;
+
+import com.smartsensesolutions.commons.dao.cache.LruCache;
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.filter.Criteria;
+import com.smartsensesolutions.commons.dao.operator.Operator;
+import com.smartsensesolutions.commons.dao.specification.SpecificationValueConverter;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bounded LRU cache of the {@link FilterPlan} per entity and criteria shape.
+ */
+@Component
+public class FilterPlanCache {
+    private static final String TABLE_FIELD_SEPARATOR = "\\.";
+    private static final String FIELD_SEPARATOR = ",";
+
+    private final SpecificationValueConverter valueConverter;
+    private final LruCache<PlanKey, FilterPlan> plans;
+
+    public FilterPlanCache(SpecificationValueConverter valueConverter, CommonsDaoProperties properties) {
+        this.valueConverter = valueConverter;
+        this.plans = new LruCache<>(properties.getPlanCacheSize());
+    }
+
+    /**
+     * Get the compiled plan of the criteria list, compile and cache it if not present.
+     *
+     * @param entityType   - Indicates the root entity type.
+     * @param criteriaList - Indicates the criteria list.
+     * @return FilterPlan
+     */
+    public FilterPlan getPlan(ManagedType<?> entityType, List<Criteria> criteriaList) {
+        List<Shape> shape = new ArrayList<>(criteriaList.size());
+        for (Criteria criteria : criteriaList) {
+            shape.add(new Shape(criteria.column(), criteria.operator()));
+        }
+        return plans.computeIfAbsent(new PlanKey(entityType.getJavaType(), shape), key -> compile(entityType, key));
+    }
+
+    public long getHitCount() {
+        return plans.getHitCount();
+    }
+
+    public long getMissCount() {
+        return plans.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return plans.getEvictionCount();
+    }
+
+    public int size() {
+        return plans.size();
+    }
+
+    /**
+     * Remove all the cached plans.
+     */
+    public void clear() {
+        plans.clear();
+    }
+
+    private FilterPlan compile(ManagedType<?> entityType, PlanKey key) {
+        List<CriterionPlan> criteria = new ArrayList<>(key.shape().size());
+        for (Shape shape : key.shape()) {
+            criteria.add(new CriterionPlan(compileColumn(entityType, shape.column()), shape.operator()));
+        }
+        return new FilterPlan(key.entityType(), List.copyOf(criteria));
+    }
+
+    private ColumnPlan compileColumn(ManagedType<?> entityType, String column) {
+        String[] split = column.split(TABLE_FIELD_SEPARATOR);
+        List<JoinPlan> joins = new ArrayList<>(split.length - 1);
+        ManagedType<?> managedType = entityType;
+        for (int i = 0; i < split.length - 1; i++) {
+            Attribute<?, ?> attribute = managedType.getAttribute(split[i]);
+            Type<?> type;
+            if (attribute instanceof PluralAttribute<?, ?, ?> pluralAttribute) {
+                type = pluralAttribute.getElementType();
+            } else {
+                type = ((SingularAttribute<?, ?>) attribute).getType();
+            }
+            if (!(type instanceof ManagedType<?> joinType)) {
+                throw new IllegalArgumentException(split[i] + " is not an association of " + managedType.getJavaType().getSimpleName());
+            }
+            joins.add(new JoinPlan(split[i], attribute.isCollection(), isForeignKey(attribute)));
+            managedType = joinType;
+        }
+        List<FieldPlan> fields = new ArrayList<>();
+        for (String field : split[split.length - 1].split(FIELD_SEPARATOR)) {
+            Attribute<?, ?> attribute = managedType.getAttribute(field);
+            boolean id = attribute instanceof SingularAttribute<?, ?> singularAttribute && singularAttribute.isId();
+            fields.add(new FieldPlan(field, attribute.getJavaType(), id, valueConverter.getConverter(attribute.getJavaType())));
+        }
+        return new ColumnPlan(column, List.copyOf(joins), List.copyOf(fields));
+    }
+
+    private boolean isForeignKey(Attribute<?, ?> attribute) {
+        if (!(attribute.getJavaMember() instanceof AnnotatedElement member)) {
+            return false;
+        }
+        if (member.isAnnotationPresent(ManyToOne.class)) {
+            return true;
+        }
+        OneToOne oneToOne = member.getAnnotation(OneToOne.class);
+        return Objects.nonNull(oneToOne) && oneToOne.mappedBy().isEmpty();
+    }
+
+    private record Shape(String column, Operator operator) {
+    }
+
+    private record PlanKey(Class<?> entityType, List<Shape> shape) {
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.plan;
+
+/**
+ * Resolved association of the {@link ColumnPlan} join chain.
+ *
+ * @param attribute  - Indicates the association field name of the parent entity.
+ * @param collection - Indicates whether the association is a to-many association.
+ * @param foreignKey - Indicates whether the foreign key of the association is stored in the parent entity table, i.e.
+ *                   {@code ManyToOne} or owning side of {@code OneToOne}.
+ */
+public record JoinPlan(String attribute, boolean collection, boolean foreignKey) {
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.text;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default {@link TextSearchStrategy} which calls the functions registered by {@link TextSearchFunctionContributor},
+ * the SQL of the functions is resolved by the Hibernate dialect.
+ */
+@Component
+public class FunctionTextSearchStrategy implements TextSearchStrategy {
+
+    @Override
+    public Predicate fullText(CriteriaBuilder cb, Expression<String> expression, String value) {
+        return cb.isTrue(cb.function(TextSearchFunctionContributor.FULL_TEXT, Boolean.class, expression, cb.literal(value)));
+    }
+
+    @Override
+    public Predicate similar(CriteriaBuilder cb, Expression<String> expression, String value) {
+        return cb.isTrue(cb.function(TextSearchFunctionContributor.SIMILAR, Boolean.class, expression, cb.literal(value)));
+    }
+
+    @Override
+    public Expression<Double> fullTextRank(CriteriaBuilder cb, Expression<String> expression, String value) {
+        return cb.function(TextSearchFunctionContributor.FULL_TEXT_RANK, Double.class, expression, cb.literal(value));
+    }
+
+    @Override
+    public Expression<Double> similarRank(CriteriaBuilder cb, Expression<String> expression, String value) {
+        return cb.function(TextSearchFunctionContributor.SIMILAR_RANK, Double.class, expression, cb.literal(value));
+    }
+}
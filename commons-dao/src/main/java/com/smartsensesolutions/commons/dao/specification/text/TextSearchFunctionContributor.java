@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.text;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.regex.Pattern;
+
+/**
+ * Registers the text search functions used by {@link FunctionTextSearchStrategy}. On PostgreSQL the full text search
+ * is {@code to_tsvector(config, field) @@ plainto_tsquery(config, ?)} and the similarity is the {@code pg_trgm}
+ * operator {@code field % ?}, both can be served by a GIN index. On the other databases, e.g. H2, both fall back to
+ * the case-insensitive {@code like}.
+ * <p>
+ * The text search configuration is inlined into the SQL so it matches the expression of the index, it is configured
+ * with the Hibernate property {@value #TEXT_SEARCH_CONFIG}, which is populated from
+ * {@code smartsense.commons.dao.text-search.config}.
+ */
+public class TextSearchFunctionContributor implements FunctionContributor {
+
+    public static final String TEXT_SEARCH_CONFIG = "smartsense.commons.dao.text_search_config";
+    public static final String FULL_TEXT = "commons_dao_full_text";
+    public static final String SIMILAR = "commons_dao_similar";
+    public static final String FULL_TEXT_RANK = "commons_dao_full_text_rank";
+    public static final String SIMILAR_RANK = "commons_dao_similar_rank";
+
+    private static final String DEFAULT_CONFIG = "simple";
+    private static final Pattern CONFIG_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_.]*");
+    private static final String LIKE = "(lower(?1) like concat(concat('%', lower(?2)), '%'))";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+        BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        BasicType<Boolean> booleanType = basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = basicTypeRegistry.resolve(StandardBasicTypes.DOUBLE);
+        if (functionContributions.getDialect() instanceof PostgreSQLDialect) {
+            String config = "'" + getConfig(functionContributions) + "'";
+            registry.registerPattern(FULL_TEXT, "(to_tsvector(" + config + ", ?1) @@ plainto_tsquery(" + config + ", ?2))", booleanType);
+            registry.registerPattern(SIMILAR, "(?1 % ?2)", booleanType);
+            registry.registerPattern(FULL_TEXT_RANK, "ts_rank(to_tsvector(" + config + ", ?1), plainto_tsquery(" + config + ", ?2))", doubleType);
+            registry.registerPattern(SIMILAR_RANK, "similarity(?1, ?2)", doubleType);
+        } else {
+            String rank = "(case when " + LIKE + " then 1.0 else 0.0 end)";
+            registry.registerPattern(FULL_TEXT, LIKE, booleanType);
+            registry.registerPattern(SIMILAR, LIKE, booleanType);
+            registry.registerPattern(FULL_TEXT_RANK, rank, doubleType);
+            registry.registerPattern(SIMILAR_RANK, rank, doubleType);
+        }
+    }
+
+    private String getConfig(FunctionContributions functionContributions) {
+        ConfigurationService configurationService = functionContributions.getServiceRegistry().requireService(ConfigurationService.class);
+        String config = configurationService.getSetting(TEXT_SEARCH_CONFIG, StandardConverters.STRING, DEFAULT_CONFIG);
+        if (!CONFIG_PATTERN.matcher(config).matches()) {
+            throw new IllegalArgumentException("invalid text search config " + config);
+        }
+        return config;
+    }
+}
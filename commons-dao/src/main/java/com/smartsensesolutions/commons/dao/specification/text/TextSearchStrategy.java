@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification.text;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Strategy used to generate the predicates of the {@link com.smartsensesolutions.commons.dao.operator.Operator#FULL_TEXT}
+ * and {@link com.smartsensesolutions.commons.dao.operator.Operator#SIMILAR} operators. The default strategy is
+ * {@link FunctionTextSearchStrategy}, it can be replaced by declaring a @{@link org.springframework.context.annotation.Primary}
+ * bean of TextSearchStrategy.
+ */
+public interface TextSearchStrategy {
+
+    /**
+     * Generate the full text search predicate.
+     *
+     * @param cb         - Indicates the CriteriaBuilder.
+     * @param expression - Indicates the text field.
+     * @param value      - Indicates the search text.
+     * @return Predicate
+     */
+    Predicate fullText(CriteriaBuilder cb, Expression<String> expression, String value);
+
+    /**
+     * Generate the trigram similarity predicate.
+     *
+     * @param cb         - Indicates the CriteriaBuilder.
+     * @param expression - Indicates the text field.
+     * @param value      - Indicates the search text.
+     * @return Predicate
+     */
+    Predicate similar(CriteriaBuilder cb, Expression<String> expression, String value);
+
+    /**
+     * Generate the relevance score of the full text search, higher score is more relevant.
+     *
+     * @param cb         - Indicates the CriteriaBuilder.
+     * @param expression - Indicates the text field.
+     * @param value      - Indicates the search text.
+     * @return Relevance score expression
+     */
+    Expression<Double> fullTextRank(CriteriaBuilder cb, Expression<String> expression, String value);
+
+    /**
+     * Generate the relevance score of the trigram similarity, higher score is more relevant.
+     *
+     * @param cb         - Indicates the CriteriaBuilder.
+     * @param expression - Indicates the text field.
+     * @param value      - Indicates the search text.
+     * @return Relevance score expression
+     */
+    Expression<Double> similarRank(CriteriaBuilder cb, Expression<String> expression, String value);
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.statement;
+
+import java.util.Locale;
+
+/**
+ * SQL statement captured by the {@link StatementCapture}.
+ *
+ * @param sql          - Indicates the SQL with the {@code ?} parameter markers.
+ * @param elapsedNanos - Indicates the elapsed time of the JDBC execution.
+ */
+public record CapturedStatement(String sql, long elapsedNanos) {
+
+    /**
+     * @return {@code true} if the statement is the count query.
+     */
+    public boolean isCount() {
+        return sql.trim().toLowerCase(Locale.ROOT).startsWith("select count(");
+    }
+}
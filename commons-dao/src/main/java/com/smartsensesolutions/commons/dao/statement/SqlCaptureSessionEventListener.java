@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.statement;
+
+import org.hibernate.engine.internal.BaseSessionEventListener;
+
+/**
+ * Reports the elapsed time of the JDBC statement execution to the {@link StatementCapture} of the current thread, the
+ * JDBC batch is reported as one statement.
+ */
+public class SqlCaptureSessionEventListener extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        StatementCapture.onExecuteStart();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        StatementCapture.onExecuteEnd();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        StatementCapture.onExecuteStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        StatementCapture.onExecuteEnd();
+    }
+}
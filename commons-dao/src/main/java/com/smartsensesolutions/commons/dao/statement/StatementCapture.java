@@ -0,0 +1,180 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Captures the SQL statements executed by the current thread with their elapsed time. The SQL is reported by the
+ * {@link SqlCaptureStatementInspector} when Hibernate prepares the statement, the elapsed time by the
+ * {@link SqlCaptureSessionEventListener} around the JDBC execution, and the entities loaded from the result by the
+ * {@link StatementCaptureIntegrator}.
+ * <p>
+ * The captures started on the thread are nested, the statement is attributed to the current capture and to all the
+ * captures it is nested in.
+ */
+public final class StatementCapture {
+
+    private static final ThreadLocal<StatementCapture> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<PendingStatement> PENDING = new ThreadLocal<>();
+
+    private static volatile boolean registered;
+
+    private final List<CapturedStatement> statements = new ArrayList<>();
+    private final StatementCapture previous;
+    private long loadedEntities;
+
+    private StatementCapture(StatementCapture previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Start the capture on the current thread, the capture already started on the thread is restored once the new
+     * capture is stopped.
+     *
+     * @return StatementCapture, call {@link #stop()} once the operation completes.
+     */
+    public static StatementCapture start() {
+        StatementCapture capture = new StatementCapture(CURRENT.get());
+        CURRENT.set(capture);
+        return capture;
+    }
+
+    /**
+     * @return {@code true} if the statement inspector reporting to the capture is registered with Hibernate.
+     */
+    public static boolean isRegistered() {
+        return registered;
+    }
+
+    /**
+     * @return Capture of the current thread, {@code null} if not started.
+     */
+    public static StatementCapture current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run the action on the current thread with the given capture, i.e. to capture the statements of the async tasks
+     * into the capture of the caller.
+     *
+     * @param capture - Indicates the capture, {@code null} to run the action without capture.
+     * @param action  - Indicates the action.
+     * @return Result of the action
+     */
+    public static <T> T runWith(StatementCapture capture, Supplier<T> action) {
+        if (Objects.isNull(capture)) {
+            return action.get();
+        }
+        StatementCapture previous = CURRENT.get();
+        CURRENT.set(capture);
+        try {
+            return action.get();
+        } finally {
+            if (Objects.isNull(previous)) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+            PENDING.remove();
+        }
+    }
+
+    /**
+     * Stop the capture on the current thread.
+     */
+    public void stop() {
+        if (CURRENT.get() == this) {
+            if (Objects.isNull(previous)) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+        PENDING.remove();
+    }
+
+    /**
+     * @return Captured statements in the execution order.
+     */
+    public List<CapturedStatement> getStatements() {
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+
+    /**
+     * @return Number of the entities loaded from the results of the captured statements.
+     */
+    public long getLoadedEntities() {
+        synchronized (statements) {
+            return loadedEntities;
+        }
+    }
+
+    static void markRegistered() {
+        registered = true;
+    }
+
+    static void onPrepare(String sql) {
+        if (Objects.nonNull(CURRENT.get())) {
+            PENDING.set(new PendingStatement(sql));
+        }
+    }
+
+    static void onExecuteStart() {
+        PendingStatement pending = PENDING.get();
+        if (Objects.nonNull(pending)) {
+            pending.start = System.nanoTime();
+        }
+    }
+
+    static void onExecuteEnd() {
+        StatementCapture capture = CURRENT.get();
+        PendingStatement pending = PENDING.get();
+        if (Objects.isNull(capture) || Objects.isNull(pending) || pending.start == 0) {
+            return;
+        }
+        CapturedStatement statement = new CapturedStatement(pending.sql, System.nanoTime() - pending.start);
+        pending.start = 0;
+        for (StatementCapture current = capture; Objects.nonNull(current); current = current.previous) {
+            synchronized (current.statements) {
+                current.statements.add(statement);
+            }
+        }
+    }
+
+    static void onLoad() {
+        for (StatementCapture current = CURRENT.get(); Objects.nonNull(current); current = current.previous) {
+            synchronized (current.statements) {
+                current.loadedEntities++;
+            }
+        }
+    }
+
+    private static final class PendingStatement {
+        private final String sql;
+        private long start;
+
+        private PendingStatement(String sql) {
+            this.sql = sql;
+        }
+    }
+}
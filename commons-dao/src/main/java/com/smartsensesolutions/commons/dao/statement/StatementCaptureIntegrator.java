@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.statement;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Reports the entities loaded by Hibernate to the {@link StatementCapture} of the current thread, so the rows of the
+ * lazy and batch loaded associations are attributed to the operation as well. Registered only when the Hibernate
+ * property {@value #STATEMENT_CAPTURE} is {@code true}, which is populated when the slow filter log or the statement
+ * guard is enabled.
+ */
+public class StatementCaptureIntegrator implements Integrator {
+
+    public static final String STATEMENT_CAPTURE = "smartsense.commons.dao.statement_capture";
+
+    private static final PostLoadEventListener LISTENER = event -> StatementCapture.onLoad();
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        ConfigurationService configurationService = sessionFactory.getServiceRegistry().requireService(ConfigurationService.class);
+        if (configurationService.getSetting(STATEMENT_CAPTURE, StandardConverters.BOOLEAN, false)) {
+            sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class).appendListeners(EventType.POST_LOAD, LISTENER);
+        }
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
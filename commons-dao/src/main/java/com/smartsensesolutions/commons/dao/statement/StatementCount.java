@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.statement;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC statements executed by an operation, captured by the {@link StatementCapture}.
+ *
+ * @param statements     - Indicates the statements in the execution order.
+ * @param loadedEntities - Indicates the number of entities loaded from the results of the statements.
+ */
+public record StatementCount(List<CapturedStatement> statements, long loadedEntities) {
+
+    private static final int MAX_DESCRIBED_SQL = 3;
+
+    static StatementCount of(StatementCapture capture) {
+        return new StatementCount(capture.getStatements(), capture.getLoadedEntities());
+    }
+
+    /**
+     * @return Number of the statements.
+     */
+    public int count() {
+        return statements.size();
+    }
+
+    /**
+     * @return Total elapsed time of the JDBC execution of the statements.
+     */
+    public long elapsedNanos() {
+        return statements.stream().mapToLong(CapturedStatement::elapsedNanos).sum();
+    }
+
+    /**
+     * @return Number of executions of each SQL, the most executed first. The SQL executed once per loaded entity
+     * indicates the N+1 select.
+     */
+    public Map<String, Long> countBySql() {
+        return statements.stream()
+                .collect(Collectors.groupingBy(CapturedStatement::sql, LinkedHashMap::new, Collectors.counting()))
+                .entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first, LinkedHashMap::new));
+    }
+
+    /**
+     * @return Summary of the statements with the most executed SQL.
+     */
+    public String describe() {
+        StringJoiner joiner = new StringJoiner("; ", count() + " statements, " + loadedEntities + " entities loaded, most executed: ", "");
+        countBySql().entrySet().stream().limit(MAX_DESCRIBED_SQL)
+                .map(entry -> entry.getValue() + " x " + entry.getKey())
+                .forEach(joiner::add);
+        return joiner.toString();
+    }
+}
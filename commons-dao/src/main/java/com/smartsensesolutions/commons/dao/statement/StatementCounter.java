@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.statement;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Test utility counting the JDBC statements executed by a block of code, e.g. to assert that the filter does not load
+ * the associations entity by entity:
+ * <pre>{@code
+ * Page<Author> page = StatementCounter.assertAtMost(2, () -> authorService.filter(request));
+ * }</pre>
+ * The statements are captured by the Hibernate statement inspector, which is registered with
+ * {@code smartsense.commons.dao.statement-guard.enabled=true} or {@code smartsense.commons.dao.slow-log.enabled=true}.
+ * Only the statements executed on the calling thread, and by the async {@code BaseService} operations it starts, are
+ * counted.
+ */
+public final class StatementCounter {
+
+    private StatementCounter() {
+    }
+
+    /**
+     * Count the statements executed by the action.
+     *
+     * @param action - Indicates the action.
+     * @return StatementCount
+     */
+    public static StatementCount count(Runnable action) {
+        if (!StatementCapture.isRegistered()) {
+            throw new IllegalStateException("statement capture is not registered, enable smartsense.commons.dao.statement-guard");
+        }
+        StatementCapture capture = StatementCapture.start();
+        try {
+            action.run();
+        } finally {
+            capture.stop();
+        }
+        return StatementCount.of(capture);
+    }
+
+    /**
+     * Assert that the action executes at most the given number of statements.
+     *
+     * @param maxStatements - Indicates the maximum number of statements.
+     * @param action        - Indicates the action.
+     * @return Result of the action
+     * @throws AssertionError if the action executes more statements, with the most executed SQL.
+     */
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> action) {
+        AtomicReference<T> result = new AtomicReference<>();
+        StatementCount count = count(() -> result.set(action.get()));
+        if (count.count() > maxStatements) {
+            throw new AssertionError("expected at most " + maxStatements + " statements but was " + count.describe());
+        }
+        return result.get();
+    }
+
+    /**
+     * Assert that the action executes at most the given number of statements.
+     *
+     * @param maxStatements - Indicates the maximum number of statements.
+     * @param action        - Indicates the action.
+     * @throws AssertionError if the action executes more statements, with the most executed SQL.
+     */
+    public static void assertAtMost(int maxStatements, Runnable action) {
+        assertAtMost(maxStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.statement;
+
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.metrics.DaoMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Counts the JDBC statements executed by each {@link com.smartsensesolutions.commons.dao.base.BaseService} operation,
+ * including the statements of the lazy loaded associations and of the nested operations, and records them with the
+ * loaded entities and the elapsed time by the {@link DaoMetrics}. The operation executing more than
+ * {@code smartsense.commons.dao.statement-guard.max-statements} is logged with the most executed SQL, or fails with
+ * {@link IllegalStateException} with {@code action=THROW}, so the N+1 select is caught before it reaches production.
+ * <p>
+ * The operation is checked once it has completed, the failure rolls back the enclosing transaction.
+ */
+@Slf4j
+@Component
+public class StatementGuard {
+
+    private final CommonsDaoProperties.StatementGuard config;
+    private final DaoMetrics daoMetrics;
+
+    public StatementGuard(CommonsDaoProperties properties, DaoMetrics daoMetrics) {
+        this.config = properties.getStatementGuard();
+        this.daoMetrics = daoMetrics;
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Run the operation with the statement capture and check the number of executed statements. The
+     * {@link CompletableFuture} result is checked once it completes, and the {@link Stream} result once it is closed.
+     *
+     * @param entityType - Indicates the entity class.
+     * @param operation  - Indicates the operation name.
+     * @param action     - Indicates the operation.
+     * @return Result of the operation
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R guard(Class<?> entityType, String operation, Supplier<R> action) {
+        if (!config.isEnabled()) {
+            return action.get();
+        }
+        StatementCapture capture = StatementCapture.start();
+        R result;
+        try {
+            result = action.get();
+        } finally {
+            capture.stop();
+        }
+        if (result instanceof Stream<?> stream) {
+            return (R) stream.onClose(() -> check(entityType, operation, StatementCount.of(capture)));
+        }
+        if (result instanceof CompletableFuture<?> future) {
+            return (R) future.thenApply(value -> {
+                check(entityType, operation, StatementCount.of(capture));
+                return value;
+            });
+        }
+        check(entityType, operation, StatementCount.of(capture));
+        return result;
+    }
+
+    private void check(Class<?> entityType, String operation, StatementCount count) {
+        daoMetrics.recordStatements(entityType, operation, count.count(), count.loadedEntities(), count.elapsedNanos());
+        if (count.count() <= config.getMaxStatements()) {
+            return;
+        }
+        String message = entityType.getSimpleName() + "#" + operation + " exceeded " + config.getMaxStatements()
+                + " statements: " + count.describe();
+        if (config.getAction() == CommonsDaoProperties.StatementGuard.Action.THROW) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+}
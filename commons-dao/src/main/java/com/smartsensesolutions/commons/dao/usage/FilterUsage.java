@@ -0,0 +1,33 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.usage;
+
+import java.time.Duration;
+
+/**
+ * Usage of the single pattern in the {@link FilterUsageReport}.
+ *
+ * @param entity  - Indicates the entity name.
+ * @param type    - Indicates the type of the pattern.
+ * @param pattern - Indicates the pattern i.e. {@code address.city EQUALS}.
+ * @param count   - Indicates the number of the requests using the pattern.
+ * @param p50     - Indicates the approximate median latency of the requests.
+ * @param p95     - Indicates the approximate 95th percentile latency of the requests.
+ * @param p99     - Indicates the approximate 99th percentile latency of the requests.
+ */
+public record FilterUsage(String entity, UsageType type, String pattern, long count, Duration p50, Duration p95, Duration p99) {
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.usage;
+
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.filter.sort.Sort;
+import com.smartsensesolutions.commons.dao.usage.UsagePattern.ColumnUsage;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Records which criteria columns and operators, sort columns and join paths are used by the FilterRequests of each
+ * entity, with the latency of the requests, enabled with {@code smartsense.commons.dao.usage.enabled}. The counters
+ * are lock-free, so recording adds no contention to the filter calls.
+ * <p>
+ * The {@link #getReport(int)} ranks the hottest patterns and suggests the indexes for them.
+ */
+@Component
+public class FilterUsageRecorder {
+
+    private final boolean enabled;
+    private final int maximumPatterns;
+    private final IndexAdvisor indexAdvisor;
+    private final Map<PatternKey, UsagePattern> patterns = new ConcurrentHashMap<>();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public FilterUsageRecorder(CommonsDaoProperties properties, IndexAdvisor indexAdvisor) {
+        this.enabled = properties.getUsage().isEnabled();
+        this.maximumPatterns = properties.getUsage().getMaximumPatterns();
+        this.indexAdvisor = indexAdvisor;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record the usage of the FilterRequest.
+     *
+     * @param entityType    - Indicates the entity class.
+     * @param filter        - Indicates the FilterRequest.
+     * @param durationNanos - Indicates the latency of the request in nanoseconds.
+     */
+    public void record(Class<?> entityType, FilterRequest filter, long durationNanos) {
+        if (!enabled) {
+            return;
+        }
+        List<ColumnUsage> filters = Stream.of(filter.getCriteria(), filter.getOrCriteria())
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(criteria -> new ColumnUsage(criteria.column(), criteria.operator()))
+                .distinct()
+                .sorted(Comparator.comparing(ColumnUsage::toString))
+                .toList();
+        List<Sort> sorts = Objects.isNull(filter.getSort()) ? List.of() : List.copyOf(filter.getSort());
+        Set<String> joins = new LinkedHashSet<>();
+        for (ColumnUsage usage : filters) {
+            record(entityType, UsageType.FILTER, usage.toString(), List.of(usage), List.of(), durationNanos);
+            addJoins(joins, usage.column());
+        }
+        for (Sort sort : sorts) {
+            record(entityType, UsageType.SORT, toString(sort), List.of(), List.of(sort), durationNanos);
+            addJoins(joins, sort.column());
+        }
+        for (String join : joins) {
+            record(entityType, UsageType.JOIN, join, List.of(), List.of(), durationNanos);
+        }
+        StringBuilder query = new StringBuilder(filters.toString());
+        if (!sorts.isEmpty()) {
+            query.append(" ORDER BY ").append(String.join(", ", sorts.stream().map(this::toString).toList()));
+        }
+        record(entityType, UsageType.QUERY, query.toString(), filters, sorts, durationNanos);
+    }
+
+    /**
+     * Generate the report of the hottest patterns with the suggested indexes.
+     *
+     * @param limit - Indicates the maximum number of patterns in the report.
+     * @return FilterUsageReport
+     */
+    public FilterUsageReport getReport(int limit) {
+        List<UsagePattern> hottest = patterns.values().stream()
+                .sorted(Comparator.comparingLong(UsagePattern::getCount).reversed())
+                .limit(limit)
+                .toList();
+        return new FilterUsageReport(hottest.stream().map(UsagePattern::toUsage).toList(),
+                indexAdvisor.suggest(hottest), droppedCount.sum());
+    }
+
+    /**
+     * @return All the recorded patterns.
+     */
+    public List<UsagePattern> getPatterns() {
+        return new ArrayList<>(patterns.values());
+    }
+
+    /**
+     * Remove all the recorded patterns.
+     */
+    public void reset() {
+        patterns.clear();
+        droppedCount.reset();
+    }
+
+    private void record(Class<?> entityType, UsageType type, String key, List<ColumnUsage> filters, List<Sort> sorts, long durationNanos) {
+        PatternKey patternKey = new PatternKey(entityType, type, key);
+        UsagePattern pattern = patterns.get(patternKey);
+        if (Objects.isNull(pattern)) {
+            if (patterns.size() >= maximumPatterns) {
+                droppedCount.increment();
+                return;
+            }
+            pattern = patterns.computeIfAbsent(patternKey, k -> new UsagePattern(entityType, type, key, filters, sorts));
+        }
+        pattern.record(durationNanos);
+    }
+
+    private void addJoins(Set<String> joins, String column) {
+        int index = column.indexOf('.');
+        while (index > 0) {
+            joins.add(column.substring(0, index));
+            index = column.indexOf('.', index + 1);
+        }
+    }
+
+    private String toString(Sort sort) {
+        return sort.column() + " " + sort.sortType();
+    }
+
+    private record PatternKey(Class<?> entityType, UsageType type, String key) {
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.usage;
+
+import java.util.List;
+
+/**
+ * Report of the {@link FilterUsageRecorder}.
+ *
+ * @param patterns         - Indicates the hottest patterns, most used first.
+ * @param suggestedIndexes - Indicates the {@code CREATE INDEX} statements suggested for the hottest patterns.
+ * @param droppedCount     - Indicates the number of patterns not recorded as the maximum number of patterns is reached.
+ */
+public record FilterUsageReport(List<FilterUsage> patterns, List<String> suggestedIndexes, long droppedCount) {
+}
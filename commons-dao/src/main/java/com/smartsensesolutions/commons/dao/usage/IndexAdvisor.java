@@ -0,0 +1,278 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.usage;
+
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.filter.sort.Sort;
+import com.smartsensesolutions.commons.dao.filter.sort.SortType;
+import com.smartsensesolutions.commons.dao.operator.Operator;
+import com.smartsensesolutions.commons.dao.usage.UsagePattern.ColumnUsage;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Suggests the {@code CREATE INDEX} statements (PostgreSQL syntax) for the recorded usage patterns, the table and
+ * column names are resolved from the Hibernate mapping metamodel. Suggestions are a starting point, they must be
+ * verified with the query plan before applying them.
+ */
+@Slf4j
+@Component
+public class IndexAdvisor {
+
+    private static final int MAX_NAME_LENGTH = 63;
+    private static final Set<Operator> EQUALITY_OPERATORS = EnumSet.of(Operator.EQUALS, Operator.IN, Operator.TRUE,
+            Operator.FALSE, Operator.NULL);
+    private static final Set<Operator> RANGE_OPERATORS = EnumSet.of(Operator.GREATER_THAN, Operator.GREATER_EQUALS,
+            Operator.LESSER_THAN, Operator.LESSER_EQUALS);
+    private static final Set<Operator> CONTAIN_OPERATORS = EnumSet.of(Operator.CONTAIN, Operator.CONTAIN_WITH_WILDCARD);
+
+    private final CommonsDaoProperties properties;
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    public IndexAdvisor(CommonsDaoProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Suggest the indexes for the given patterns, the patterns which can not be resolved to the columns, and the
+     * negated operators which can not use an index, are skipped.
+     *
+     * @param patterns - Indicates the usage patterns, most used first.
+     * @return CREATE INDEX statements
+     */
+    public List<String> suggest(List<UsagePattern> patterns) {
+        Set<String> statements = new LinkedHashSet<>();
+        for (UsagePattern pattern : patterns) {
+            try {
+                switch (pattern.getType()) {
+                    case FILTER -> pattern.getFilters().forEach(usage -> addFilterIndex(statements, pattern.getEntityType(), usage));
+                    case SORT -> pattern.getSorts().forEach(sort -> addSortIndex(statements, pattern.getEntityType(), sort));
+                    case JOIN -> addJoinIndex(statements, pattern.getEntityType(), pattern.getKey());
+                    case QUERY -> addCompositeIndex(statements, pattern.getEntityType(), pattern.getFilters(), pattern.getSorts());
+                }
+            } catch (RuntimeException ex) {
+                // pattern of the unknown column, or the column not mapped to the table of the entity
+                log.debug("Skipped index suggestion of {} pattern '{}' of {}: {}", pattern.getType(), pattern.getKey(),
+                        pattern.getEntityType().getName(), ex.getMessage());
+            }
+        }
+        return new ArrayList<>(statements);
+    }
+
+    private void addFilterIndex(Set<String> statements, Class<?> entityType, ColumnUsage usage) {
+        Operator operator = usage.operator();
+        for (ColumnRef ref : resolve(entityType, usage.column())) {
+            if (ref.id() || ref.columns().length != 1) {
+                continue;
+            }
+            String column = ref.columns()[0];
+            String lower = properties.getStringMatch().isIgnoreCase() ? "lower(" + column + ")" : column;
+            if (Operator.SIMILAR.equals(operator)) {
+                statements.add(createIndex(ref.table(), List.of(column), "trgm", "gin", List.of(column + " gin_trgm_ops")));
+            } else if (CONTAIN_OPERATORS.contains(operator)) {
+                // contain operators always match on lower(col)
+                statements.add(createIndex(ref.table(), List.of(column), "lower_trgm", "gin", List.of("lower(" + column + ") gin_trgm_ops")));
+            } else if (Operator.STARTS_WITH.equals(operator)) {
+                statements.add(createIndex(ref.table(), List.of(column), "prefix", null, List.of(lower + " text_pattern_ops")));
+            } else if (Operator.ENDS_WITH.equals(operator)) {
+                if (properties.getStringMatch().isReverseSuffix()) {
+                    statements.add(createIndex(ref.table(), List.of(column), "suffix", null, List.of("reverse(" + lower + ") text_pattern_ops")));
+                } else {
+                    statements.add(createIndex(ref.table(), List.of(column), lower.equals(column) ? "trgm" : "lower_trgm", "gin",
+                            List.of(lower + " gin_trgm_ops")));
+                }
+            } else if (Operator.FULL_TEXT.equals(operator)) {
+                String config = properties.getTextSearch().getConfig();
+                statements.add(createIndex(ref.table(), List.of(column), "fts", "gin", List.of("to_tsvector('" + config + "', " + column + ")")));
+            } else if (EQUALITY_OPERATORS.contains(operator) || RANGE_OPERATORS.contains(operator) || Operator.NOT_NULL.equals(operator)) {
+                statements.add(createIndex(ref.table(), List.of(column), null, null, List.of(column)));
+            }
+        }
+    }
+
+    private void addSortIndex(Set<String> statements, Class<?> entityType, Sort sort) {
+        for (ColumnRef ref : resolve(entityType, sort.column())) {
+            if (!ref.id()) {
+                List<String> columns = Arrays.asList(ref.columns());
+                statements.add(createIndex(ref.table(), columns, null, null, columns));
+            }
+        }
+    }
+
+    /**
+     * Index of the foreign key column of the to-one association, or of the key columns of the collection table.
+     */
+    private void addJoinIndex(Set<String> statements, Class<?> entityType, String path) {
+        int index = path.lastIndexOf('.');
+        Class<?> owner = index < 0 ? entityType : getTargetType(entityType, path.substring(0, index));
+        String attribute = path.substring(index + 1);
+        AbstractEntityPersister persister = getPersister(owner);
+        Type type = persister.getPropertyType(attribute);
+        if (type instanceof CollectionType collectionType) {
+            CollectionPersister collectionPersister = getSessionFactory().getMappingMetamodel().getCollectionDescriptor(collectionType.getRole());
+            if (collectionPersister instanceof AbstractCollectionPersister abstractCollectionPersister) {
+                List<String> columns = new ArrayList<>(Arrays.asList(abstractCollectionPersister.getKeyColumnNames()));
+                if (abstractCollectionPersister.isManyToMany()) {
+                    columns.addAll(Arrays.asList(abstractCollectionPersister.getElementColumnNames()));
+                }
+                statements.add(createIndex(abstractCollectionPersister.getTableName(), columns, null, null, columns));
+            }
+        } else if (type.isEntityType()) {
+            List<String> columns = Arrays.asList(persister.getPropertyColumnNames(attribute));
+            if (!columns.isEmpty()) {
+                statements.add(createIndex(persister.getPropertyTableName(attribute), columns, null, null, columns));
+            }
+        }
+    }
+
+    /**
+     * Composite index of the base table with the equality columns first, followed by the sort columns, or by the
+     * range column when the request has no sort.
+     */
+    private void addCompositeIndex(Set<String> statements, Class<?> entityType, List<ColumnUsage> filters, List<Sort> sorts) {
+        String table = getPersister(entityType).getTableName();
+        List<String> columns = new ArrayList<>();
+        List<String> expressions = new ArrayList<>();
+        String range = null;
+        for (ColumnUsage usage : filters) {
+            String column = getBaseColumn(entityType, table, usage.column());
+            if (Objects.isNull(column) || columns.contains(column)) {
+                continue;
+            }
+            if (EQUALITY_OPERATORS.contains(usage.operator())) {
+                columns.add(column);
+                expressions.add(column);
+            } else if (RANGE_OPERATORS.contains(usage.operator()) && Objects.isNull(range)) {
+                range = column;
+            }
+        }
+        List<String> sortColumns = new ArrayList<>();
+        boolean mixed = sorts.stream().map(Sort::sortType).distinct().count() > 1;
+        for (Sort sort : sorts) {
+            String column = getBaseColumn(entityType, table, sort.column());
+            if (Objects.isNull(column)) {
+                sortColumns.clear();
+                break;
+            }
+            sortColumns.add(column);
+        }
+        if (!sortColumns.isEmpty()) {
+            for (int i = 0; i < sortColumns.size(); i++) {
+                if (!columns.contains(sortColumns.get(i))) {
+                    columns.add(sortColumns.get(i));
+                    expressions.add(mixed && SortType.DESC.equals(sorts.get(i).sortType()) ? sortColumns.get(i) + " DESC" : sortColumns.get(i));
+                }
+            }
+        } else if (Objects.nonNull(range) && !columns.contains(range)) {
+            columns.add(range);
+            expressions.add(range);
+        }
+        if (columns.size() > 1) {
+            statements.add(createIndex(table, columns, null, null, expressions));
+        }
+    }
+
+    /**
+     * Column of the base table of the entity, null if the column path is on the association or not single column.
+     */
+    private String getBaseColumn(Class<?> entityType, String table, String path) {
+        if (path.contains(".") || path.contains(",")) {
+            return null;
+        }
+        ColumnRef ref = resolve(entityType, path).get(0);
+        return ref.columns().length == 1 && table.equals(ref.table()) ? ref.columns()[0] : null;
+    }
+
+    private List<ColumnRef> resolve(Class<?> entityType, String path) {
+        int index = path.lastIndexOf('.');
+        Class<?> owner = index < 0 ? entityType : getTargetType(entityType, path.substring(0, index));
+        AbstractEntityPersister persister = getPersister(owner);
+        List<ColumnRef> refs = new ArrayList<>();
+        for (String field : path.substring(index + 1).split(",")) {
+            if (field.equals(persister.getIdentifierPropertyName())) {
+                refs.add(new ColumnRef(persister.getTableName(), persister.getIdentifierColumnNames(), true));
+            } else {
+                refs.add(new ColumnRef(persister.getPropertyTableName(field), persister.getPropertyColumnNames(field), false));
+            }
+        }
+        return refs;
+    }
+
+    private Class<?> getTargetType(Class<?> entityType, String path) {
+        Metamodel metamodel = entityManagerFactory.getMetamodel();
+        Class<?> owner = entityType;
+        for (String segment : path.split("\\.")) {
+            Attribute<?, ?> attribute = metamodel.managedType(owner).getAttribute(segment);
+            owner = attribute instanceof PluralAttribute<?, ?, ?> pluralAttribute
+                    ? pluralAttribute.getElementType().getJavaType() : attribute.getJavaType();
+        }
+        return owner;
+    }
+
+    private String createIndex(String table, List<String> columns, String suffix, String method, List<String> expressions) {
+        StringBuilder name = new StringBuilder("idx_").append(table);
+        columns.forEach(column -> name.append('_').append(column));
+        if (Objects.nonNull(suffix)) {
+            name.append('_').append(suffix);
+        }
+        String indexName = name.toString().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_]", "_");
+        if (indexName.length() > MAX_NAME_LENGTH) {
+            indexName = indexName.substring(0, MAX_NAME_LENGTH);
+        }
+        return "CREATE INDEX IF NOT EXISTS " + indexName + " ON " + table
+                + (Objects.isNull(method) ? "" : " USING " + method)
+                + " (" + String.join(", ", expressions) + ");";
+    }
+
+    private AbstractEntityPersister getPersister(Class<?> entityType) {
+        EntityPersister persister = getSessionFactory().getMappingMetamodel().getEntityDescriptor(entityType);
+        if (!(persister instanceof AbstractEntityPersister abstractEntityPersister)) {
+            throw new IllegalArgumentException("unsupported entity persister of " + entityType.getName());
+        }
+        return abstractEntityPersister;
+    }
+
+    private SessionFactoryImplementor getSessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    private record ColumnRef(String table, String[] columns, boolean id) {
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.usage;
+
+import com.smartsensesolutions.commons.dao.filter.sort.Sort;
+import com.smartsensesolutions.commons.dao.operator.Operator;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recorded pattern with the usage counter and latency histogram.
+ */
+public class UsagePattern {
+
+    private final Class<?> entityType;
+    private final UsageType type;
+    private final String key;
+    private final List<ColumnUsage> filters;
+    private final List<Sort> sorts;
+    private final LongAdder count = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    UsagePattern(Class<?> entityType, UsageType type, String key, List<ColumnUsage> filters, List<Sort> sorts) {
+        this.entityType = entityType;
+        this.type = type;
+        this.key = key;
+        this.filters = filters;
+        this.sorts = sorts;
+    }
+
+    void record(long nanos) {
+        count.increment();
+        latency.record(nanos);
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public UsageType getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return Criteria columns of the pattern, empty for the {@link UsageType#SORT} and {@link UsageType#JOIN}.
+     */
+    public List<ColumnUsage> getFilters() {
+        return filters;
+    }
+
+    /**
+     * @return Sort columns of the pattern, empty for the {@link UsageType#FILTER} and {@link UsageType#JOIN}.
+     */
+    public List<Sort> getSorts() {
+        return sorts;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    FilterUsage toUsage() {
+        return new FilterUsage(entityType.getSimpleName(), type, key, getCount(),
+                latency.getPercentile(50), latency.getPercentile(95), latency.getPercentile(99));
+    }
+
+    /**
+     * Criteria column path with the operator.
+     *
+     * @param column   - Indicates the column path.
+     * @param operator - Indicates the operator.
+     */
+    public record ColumnUsage(String column, Operator operator) {
+
+        @Override
+        public String toString() {
+            return column + " " + operator;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.usage;
+
+/**
+ * Type of the usage pattern recorded by the {@link FilterUsageRecorder}.
+ */
+public enum UsageType {
+
+    /**
+     * Criteria column path with the operator i.e. {@code address.city EQUALS}.
+     */
+    FILTER,
+
+    /**
+     * Sort column path with the direction i.e. {@code createdAt DESC}.
+     */
+    SORT,
+
+    /**
+     * Association path joined by the criteria or sort i.e. {@code address}.
+     */
+    JOIN,
+
+    /**
+     * Complete shape of the request, all the criteria columns with the operators and the sort columns.
+     */
+    QUERY
+}
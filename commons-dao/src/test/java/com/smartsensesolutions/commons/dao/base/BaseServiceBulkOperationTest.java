@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.smartsensesolutions.commons.dao.base;
+
+import com.smartsensesolutions.commons.dao.bulk.BulkInsertExecutor;
+import com.smartsensesolutions.commons.dao.cache.FilterResultCache;
+import com.smartsensesolutions.commons.dao.config.CommonsDaoExecutors;
+import com.smartsensesolutions.commons.dao.config.CommonsDaoHibernatePropertiesCustomizer;
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.entity.Author;
+import com.smartsensesolutions.commons.dao.entity.Book;
+import com.smartsensesolutions.commons.dao.fetch.FetchPlanResolver;
+import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.metrics.DaoMetrics;
+import com.smartsensesolutions.commons.dao.multiget.MultiGetExecutor;
+import com.smartsensesolutions.commons.dao.operator.Operator;
+import com.smartsensesolutions.commons.dao.paging.TwoPhasePageExecutor;
+import com.smartsensesolutions.commons.dao.repository.AuthorRepository;
+import com.smartsensesolutions.commons.dao.repository.BookRepository;
+import com.smartsensesolutions.commons.dao.slowlog.PostgreSQLExplainStrategy;
+import com.smartsensesolutions.commons.dao.slowlog.SlowFilterLogger;
+import com.smartsensesolutions.commons.dao.specification.SpecificationUtil;
+import com.smartsensesolutions.commons.dao.specification.SpecificationValueConverter;
+import com.smartsensesolutions.commons.dao.specification.inlist.InListPredicateFactory;
+import com.smartsensesolutions.commons.dao.specification.optimizer.FilterRequestOptimizer;
+import com.smartsensesolutions.commons.dao.specification.plan.FilterPlanCache;
+import com.smartsensesolutions.commons.dao.specification.text.FunctionTextSearchStrategy;
+import com.smartsensesolutions.commons.dao.statement.StatementGuard;
+import com.smartsensesolutions.commons.dao.usage.FilterUsageRecorder;
+import com.smartsensesolutions.commons.dao.usage.IndexAdvisor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies the bulk update and delete of the {@link BaseService}, the criteria on the association paths are applied
+ * with the id subquery.
+ */
+@DataJpaTest
+@EnableConfigurationProperties
+@Import({BaseServiceBulkOperationTest.AuthorService.class, BaseServiceBulkOperationTest.BookService.class,
+        SpecificationUtil.class, SpecificationValueConverter.class, FilterPlanCache.class, FunctionTextSearchStrategy.class,
+        InListPredicateFactory.class, CommonsDaoProperties.class, CommonsDaoHibernatePropertiesCustomizer.class,
+        BulkInsertExecutor.class, CommonsDaoExecutors.class, FilterResultCache.class, FilterRequestOptimizer.class,
+        FilterUsageRecorder.class, IndexAdvisor.class, DaoMetrics.class, SlowFilterLogger.class, PostgreSQLExplainStrategy.class,
+        StatementGuard.class, FetchPlanResolver.class, TwoPhasePageExecutor.class, MultiGetExecutor.class})
+class BaseServiceBulkOperationTest {
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void insertAuthors() {
+        execute("insert into author (id, name) values (1, 'Asimov'), (2, 'Banks'), (3, 'Clarke')");
+        execute("insert into book (id, book_name, description, author_id) values (1, 'Foundation', 'x', 1), "
+                + "(2, 'Robots', 'x', 1), (3, 'Excession', 'y', 2), (4, 'Rama', 'x', 3)");
+    }
+
+    @Test
+    void updateByFilterOnCollectionPath() {
+        FilterRequest filter = new FilterRequest().appendCriteria("books.description", Operator.EQUALS, "x");
+
+        assertEquals(2, authorService.updateByFilter(filter, Map.of("name", "Golden Age")));
+        assertEquals(List.of("Golden Age", "Banks", "Golden Age"), findColumn("select name from author order by id"));
+    }
+
+    @Test
+    void updateByFilterOnToOnePathIncrementsVersion() {
+        FilterRequest filter = new FilterRequest().appendCriteria("author.name", Operator.EQUALS, "Asimov");
+
+        assertEquals(2, bookService.updateByFilter(filter, Map.of("description", "z")));
+        assertEquals(List.of("z", "z", "y", "x"), findColumn("select description from book order by id"));
+        assertEquals(List.of(1L, 1L, 0L, 0L), findColumn("select version from book order by id"));
+    }
+
+    @Test
+    void updateByFilterRejectsFieldsManagedByJpa() {
+        FilterRequest filter = new FilterRequest().appendCriteria("bookName", Operator.EQUALS, "Rama");
+
+        assertThrows(IllegalArgumentException.class, () -> bookService.updateByFilter(filter, Map.of("id", 5)));
+        assertThrows(IllegalArgumentException.class, () -> bookService.updateByFilter(filter, Map.of("version", 5)));
+        assertThrows(IllegalArgumentException.class, () -> authorService.updateByFilter(
+                new FilterRequest().appendCriteria("name", Operator.EQUALS, "Clarke"), Map.of("nicknames", List.of())));
+        assertEquals(List.of(0L, 0L, 0L, 0L), findColumn("select version from book order by id"));
+    }
+
+    @Test
+    void deleteByFilterOnToOnePath() {
+        FilterRequest filter = new FilterRequest().appendCriteria("author.name", Operator.IN, "Asimov", "Clarke");
+
+        assertEquals(3, bookService.deleteByFilter(filter));
+        assertEquals(List.of(3L), findColumn("select id from book order by id"));
+    }
+
+    @Test
+    void deleteByFilterOnCollectionPath() {
+        execute("delete from book where author_id = 2");
+        FilterRequest filter = new FilterRequest().appendCriteria("books.bookName", Operator.NULL);
+
+        assertEquals(1, authorService.deleteByFilter(filter));
+        assertEquals(List.of(1L, 3L), findColumn("select id from author order by id"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> findColumn(String sql) {
+        return entityManager.createNativeQuery(sql).getResultList();
+    }
+
+    private void execute(String sql) {
+        entityManager.createNativeQuery(sql).executeUpdate();
+    }
+
+    static class AuthorService extends BaseService<Author, Long> {
+
+        @Autowired
+        private AuthorRepository authorRepository;
+
+        @Override
+        protected BaseRepository<Author, Long> getRepository() {
+            return authorRepository;
+        }
+    }
+
+    static class BookService extends BaseService<Book, Long> {
+
+        @Autowired
+        private BookRepository bookRepository;
+
+        @Override
+        protected BaseRepository<Book, Long> getRepository() {
+            return bookRepository;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.smartsensesolutions.commons.dao.filter.cursor;
+
+import com.smartsensesolutions.commons.dao.filter.Criteria;
+import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.filter.sort.Sort;
+import com.smartsensesolutions.commons.dao.filter.sort.SortType;
+import com.smartsensesolutions.commons.dao.operator.Operator;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    private static final List<Sort> KEYSET = List.of(new Sort("name", SortType.ASC), new Sort("id", SortType.ASC));
+
+    @Test
+    void valuesAreDecodedAsEncoded() {
+        String fingerprint = KeysetCursor.fingerprint(KEYSET, filter("Asimov"));
+        Timestamp timestamp = Timestamp.from(Instant.parse("2024-01-02T03:04:05.123456789Z"));
+
+        String cursor = KeysetCursor.encode(Arrays.asList("Dune.2", null, timestamp, 7L), fingerprint);
+
+        assertEquals(Arrays.asList("Dune.2", null, "2024-01-02T03:04:05.123456789Z", "7"), KeysetCursor.decode(cursor, fingerprint));
+    }
+
+    @Test
+    void fingerprintDependsOnSortAndCriteria() {
+        String fingerprint = KeysetCursor.fingerprint(KEYSET, filter("Asimov"));
+
+        assertEquals(fingerprint, KeysetCursor.fingerprint(KEYSET, filter("Asimov")));
+        assertNotEquals(fingerprint, KeysetCursor.fingerprint(KEYSET, filter("Banks")));
+        assertNotEquals(fingerprint, KeysetCursor.fingerprint(List.of(new Sort("name", SortType.DESC), new Sort("id", SortType.ASC)),
+                filter("Asimov")));
+    }
+
+    @Test
+    void cursorOfOtherSortOrCriteriaIsRejected() {
+        String cursor = KeysetCursor.encode(List.of("Dune", 7L), KeysetCursor.fingerprint(KEYSET, filter("Asimov")));
+        String fingerprint = KeysetCursor.fingerprint(KEYSET, filter("Banks"));
+
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(cursor, fingerprint));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String fingerprint = KeysetCursor.fingerprint(KEYSET, filter("Asimov"));
+
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(fingerprint + ".%%", fingerprint));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("", fingerprint));
+    }
+
+    private FilterRequest filter(String name) {
+        FilterRequest filter = new FilterRequest();
+        filter.setCriteria(List.of(new Criteria("name", Operator.EQUALS, List.of(name))));
+        return filter;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.smartsensesolutions.commons.dao.metrics;
+
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.entity.Author;
+import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.operator.Operator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DaoMetricsTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void operationIsNotObservedByDefault() {
+        DaoMetrics daoMetrics = createDaoMetrics(new CommonsDaoProperties());
+
+        daoMetrics.observe(Author.class, "filter", null, filter(2), () -> new PageImpl<>(List.of("a", "b"), PageRequest.of(0, 10), 2));
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    void operationIsRecordedWithLowCardinalityTags() {
+        DaoMetrics daoMetrics = createDaoMetrics(enabledProperties());
+
+        daoMetrics.observe(Author.class, "filter", Record.class, filter(2), () -> new PageImpl<>(List.of("a", "b"), PageRequest.of(0, 10), 2));
+        daoMetrics.observe(Author.class, "filter", null, filter(12), () -> new PageImpl<>(List.of("a"), PageRequest.of(0, 5), 1));
+
+        assertEquals(1, meterRegistry.get(DaoMetrics.OPERATION)
+                .tags(Tags.of("entity", "Author", "operation", "filter", "projection", "Record", "criteria", "2")).timer().count());
+        assertEquals(1, meterRegistry.get(DaoMetrics.OPERATION)
+                .tags(Tags.of("entity", "Author", "operation", "filter", "projection", "none", "criteria", "10+")).timer().count());
+        assertEquals(3, meterRegistry.get(DaoMetrics.ROWS).tags("entity", "Author", "operation", "filter").summary().totalAmount());
+        assertEquals(15, meterRegistry.get(DaoMetrics.PAGE_SIZE).tags("entity", "Author", "operation", "filter").summary().totalAmount());
+    }
+
+    @Test
+    void invalidFilterIsCounted() {
+        DaoMetrics daoMetrics = createDaoMetrics(enabledProperties());
+
+        assertThrows(IllegalArgumentException.class, () -> daoMetrics.observe(Author.class, "count", null, filter(1), () -> {
+            throw new IllegalArgumentException("value/s require");
+        }));
+
+        assertEquals(1, meterRegistry.get(DaoMetrics.INVALID_FILTER).tags("entity", "Author", "operation", "count").counter().count());
+        assertEquals(1, meterRegistry.get(DaoMetrics.OPERATION)
+                .tags("entity", "Author", "operation", "count", "criteria", "1", "error", "IllegalArgumentException").timer().count());
+    }
+
+    private DaoMetrics createDaoMetrics(CommonsDaoProperties properties) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        return new DaoMetrics(beanFactory.getBeanProvider(MeterRegistry.class), beanFactory.getBeanProvider(ObservationRegistry.class),
+                properties);
+    }
+
+    private CommonsDaoProperties enabledProperties() {
+        CommonsDaoProperties properties = new CommonsDaoProperties();
+        properties.getMetrics().setEnabled(true);
+        return properties;
+    }
+
+    private FilterRequest filter(int criteria) {
+        FilterRequest filter = new FilterRequest();
+        for (int i = 0; i < criteria; i++) {
+            filter.appendCriteria("name", Operator.NOT_EQUAL, "Author " + i);
+        }
+        return filter;
+    }
+}
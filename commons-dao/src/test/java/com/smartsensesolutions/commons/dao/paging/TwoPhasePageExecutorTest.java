@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.paging;
+
+import com.smartsensesolutions.commons.dao.entity.Author;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the {@link PagingStrategy#TWO_PHASE} page against the distinct one-phase page of the same specification.
+ */
+@DataJpaTest
+@Import(TwoPhasePageExecutor.class)
+class TwoPhasePageExecutorTest {
+
+    private static final Specification<Author> WITH_BOOK_X = (root, query, cb) -> cb.equal(root.join("books").get("description"), "x");
+
+    @Autowired
+    private TwoPhasePageExecutor twoPhasePageExecutor;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void insertAuthors() {
+        execute("insert into author (id, name) values (1, 'Asimov'), (2, 'Banks'), (3, 'Clarke'), (4, 'Dick')");
+        execute("insert into book (id, book_name, description, author_id) values (1, 'Foundation', 'x', 1), "
+                + "(2, 'Robots', 'x', 1), (3, 'Excession', 'y', 2), (4, 'Rama', 'x', 3), (5, 'Ubik', 'y', 4)");
+        execute("insert into author_nicknames (author_id, nicknames) values (1, 'Isaac'), (3, 'Arthur')");
+    }
+
+    @Test
+    void pagesMatchOnePhaseOrderAndTotal() {
+        for (int page = 0; page < 3; page++) {
+            Pageable pageable = PageRequest.of(page, 1, Sort.by(Sort.Direction.DESC, "name"));
+            Page<Author> twoPhase = twoPhasePageExecutor.findPage(Author.class, WITH_BOOK_X, pageable, List.of());
+
+            assertEquals(findOnePhaseIds(WITH_BOOK_X, pageable), getIds(twoPhase.getContent()));
+            assertEquals(countOnePhase(WITH_BOOK_X), twoPhase.getTotalElements());
+        }
+    }
+
+    @Test
+    void orderOfSpecificationIsKeptWithoutSort() {
+        Specification<Author> specification = WITH_BOOK_X.and((root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType())) {
+                query.orderBy(cb.desc(root.get("name")));
+            }
+            return null;
+        });
+        Pageable pageable = PageRequest.of(0, 10);
+
+        Page<Author> twoPhase = twoPhasePageExecutor.findPage(Author.class, specification, pageable, List.of());
+
+        assertEquals(List.of(3L, 1L), getIds(twoPhase.getContent()));
+        assertEquals(findOnePhaseIds(specification, pageable), getIds(twoPhase.getContent()));
+    }
+
+    @Test
+    void multipleBagsAreFetched() {
+        Page<Author> twoPhase = twoPhasePageExecutor.findPage(Author.class, null, PageRequest.of(0, 10), List.of("books", "nicknames"));
+
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        assertEquals(List.of(1L, 2L, 3L, 4L), getIds(twoPhase.getContent()));
+        for (Author author : twoPhase.getContent()) {
+            assertTrue(persistenceUnitUtil.isLoaded(author, "books"));
+            assertTrue(persistenceUnitUtil.isLoaded(author, "nicknames"));
+        }
+    }
+
+    private List<Object> findOnePhaseIds(Specification<Author> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Author> query = cb.createQuery(Author.class);
+        Root<Author> root = query.from(Author.class);
+        query.distinct(true).where(specification.toPredicate(root, query, cb));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+        TypedQuery<Author> typedQuery = entityManager.createQuery(query);
+        typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        typedQuery.setMaxResults(pageable.getPageSize());
+        return getIds(typedQuery.getResultList());
+    }
+
+    private long countOnePhase(Specification<Author> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Author> root = query.from(Author.class);
+        query.where(specification.toPredicate(root, query, cb)).select(cb.countDistinct(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Object> getIds(List<Author> authors) {
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        return authors.stream().map(persistenceUnitUtil::getIdentifier).toList();
+    }
+
+    private void execute(String sql) {
+        entityManager.createNativeQuery(sql).executeUpdate();
+    }
+}
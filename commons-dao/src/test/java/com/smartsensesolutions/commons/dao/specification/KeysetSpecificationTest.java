@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.smartsensesolutions.commons.dao.specification;
+
+import com.smartsensesolutions.commons.dao.config.CommonsDaoHibernatePropertiesCustomizer;
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.entity.Author;
+import com.smartsensesolutions.commons.dao.filter.sort.Sort;
+import com.smartsensesolutions.commons.dao.filter.sort.SortType;
+import com.smartsensesolutions.commons.dao.specification.inlist.InListPredicateFactory;
+import com.smartsensesolutions.commons.dao.specification.plan.FilterPlanCache;
+import com.smartsensesolutions.commons.dao.specification.text.FunctionTextSearchStrategy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies the keyset pages of the row value and the expanded seek predicate match the ordering of the whole result.
+ */
+@DataJpaTest
+@EnableConfigurationProperties
+@Import({SpecificationUtil.class, SpecificationValueConverter.class, FilterPlanCache.class, FunctionTextSearchStrategy.class,
+        InListPredicateFactory.class, CommonsDaoProperties.class, CommonsDaoHibernatePropertiesCustomizer.class})
+class KeysetSpecificationTest {
+
+    @Autowired
+    private SpecificationUtil<Author> specificationUtil;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void insertAuthors() {
+        entityManager.createNativeQuery("insert into author (id, name, rating) values (1, 'Asimov', 2), (2, null, 1), "
+                + "(3, 'Banks', 2), (4, 'Asimov', 1), (5, null, 2), (6, 'Clarke', 1), (7, 'Banks', 1)").executeUpdate();
+    }
+
+    @Test
+    void rowValueSeekOfNonOptionalColumnsInSameDirection() {
+        assertEquals(List.of(2L, 4L, 6L, 7L, 1L, 3L, 5L), findAllByPages(new Sort("rating", SortType.ASC), new Sort("id", SortType.ASC)));
+        assertEquals(List.of(5L, 3L, 1L, 7L, 6L, 4L, 2L), findAllByPages(new Sort("rating", SortType.DESC), new Sort("id", SortType.DESC)));
+    }
+
+    @Test
+    void expandedSeekOfOptionalColumn() {
+        assertEquals(List.of(1L, 4L, 3L, 7L, 6L, 2L, 5L), findAllByPages(new Sort("name", SortType.ASC), new Sort("id", SortType.ASC)));
+        assertEquals(List.of(6L, 7L, 3L, 4L, 1L, 5L, 2L), findAllByPages(new Sort("name", SortType.DESC), new Sort("id", SortType.DESC)));
+    }
+
+    @Test
+    void expandedSeekOfMixedDirections() {
+        assertEquals(List.of(1L, 3L, 5L, 2L, 4L, 6L, 7L), findAllByPages(new Sort("rating", SortType.DESC), new Sort("id", SortType.ASC)));
+    }
+
+    /**
+     * Read all the records two at a time, seeking from the last record of the previous page.
+     */
+    private List<Long> findAllByPages(Sort... keyset) {
+        List<Long> ids = new ArrayList<>();
+        List<String> cursorValues = null;
+        while (true) {
+            List<Tuple> page = findPage(specificationUtil.generateKeysetSpecification(List.of(keyset), cursorValues), keyset);
+            page.forEach(tuple -> ids.add((Long) tuple.get("id")));
+            if (page.size() < 2) {
+                return ids;
+            }
+            Tuple last = page.get(page.size() - 1);
+            cursorValues = Arrays.stream(keyset).map(sort -> last.get(sort.column())).map(value -> Objects.isNull(value) ? null : value.toString()).toList();
+        }
+    }
+
+    private List<Tuple> findPage(Specification<Author> specification, Sort... keyset) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Author> root = query.from(Author.class);
+        query.multiselect(Arrays.stream(keyset).<Selection<?>>map(sort -> root.get(sort.column()).alias(sort.column())).toList());
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).setMaxResults(2).getResultList();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsensesolutions.commons.dao.specification;
+
+import com.smartsensesolutions.commons.dao.config.CommonsDaoHibernatePropertiesCustomizer;
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.entity.Author;
+import com.smartsensesolutions.commons.dao.entity.Book;
+import com.smartsensesolutions.commons.dao.filter.Criteria;
+import com.smartsensesolutions.commons.dao.operator.CriteriaOperator;
+import com.smartsensesolutions.commons.dao.operator.Operator;
+import com.smartsensesolutions.commons.dao.specification.inlist.InListPredicateFactory;
+import com.smartsensesolutions.commons.dao.specification.plan.FilterPlanCache;
+import com.smartsensesolutions.commons.dao.specification.text.FunctionTextSearchStrategy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies the joins of the criteria on the same association path, and the count query matches the content query.
+ */
+@DataJpaTest
+@EnableConfigurationProperties
+@Import({SpecificationUtil.class, SpecificationValueConverter.class, FilterPlanCache.class, FunctionTextSearchStrategy.class,
+        InListPredicateFactory.class, CommonsDaoProperties.class, CommonsDaoHibernatePropertiesCustomizer.class})
+class SpecificationUtilJoinTest {
+
+    @Autowired
+    private SpecificationUtil<Author> authorSpecificationUtil;
+
+    @Autowired
+    private SpecificationUtil<Book> bookSpecificationUtil;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void insertAuthors() {
+        entityManager.createNativeQuery("insert into author (id, name) values (1, 'Brian Herbert'), (2, 'Frank Herbert')").executeUpdate();
+        entityManager.createNativeQuery("insert into book (id, book_name, description, author_id) values "
+                + "(1, 'Dune', 'ocean', 1), (2, 'Arrakis', 'desert', 1), (3, 'Dune', 'desert', 2)").executeUpdate();
+    }
+
+    @Test
+    void criteriaOnSameToOnePathShareOneJoin() {
+        Specification<Book> specification = bookSpecificationUtil.generateAndSpecification(List.of(
+                new Criteria("author.name", Operator.CONTAIN, List.of("Herbert")),
+                new Criteria("author.name", Operator.NOT_EQUAL, List.of("Brian Herbert"))));
+
+        assertEquals(1, countJoins(Book.class, specification));
+    }
+
+    @Test
+    void andAndOrCriteriaOnSameToOnePathShareOneJoin() {
+        Specification<Book> specification = bookSpecificationUtil.generateSpecification(
+                List.of(new Criteria("author.name", Operator.CONTAIN, List.of("Herbert"))),
+                List.of(new Criteria("author.name", Operator.EQUALS, List.of("Frank Herbert")),
+                        new Criteria("bookName", Operator.EQUALS, List.of("Arrakis"))),
+                CriteriaOperator.AND);
+
+        assertEquals(1, countJoins(Book.class, specification));
+    }
+
+    @Test
+    void collectionIsJoinedOncePerCriteria() {
+        Specification<Author> specification = authorSpecificationUtil.generateAndSpecification(List.of(
+                new Criteria("books.bookName", Operator.EQUALS, List.of("Dune")),
+                new Criteria("books.description", Operator.CONTAIN, List.of("desert"))));
+
+        assertEquals(2, countJoins(Author.class, specification));
+        assertEquals(List.of(1L, 2L), findIds(specification));
+        assertEquals(2L, count(specification));
+    }
+
+    @Test
+    void criteriaOnSameCollectionPathMatchAnyElement() {
+        Specification<Author> specification = authorSpecificationUtil.generateAndSpecification(List.of(
+                new Criteria("books.bookName", Operator.EQUALS, List.of("Dune")),
+                new Criteria("books.bookName", Operator.EQUALS, List.of("Arrakis"))));
+
+        assertEquals(List.of(1L), findIds(specification));
+        assertEquals(1L, count(specification));
+    }
+
+    @Test
+    void countOfAndAndOrCriteriaOnSameCollectionPathMatchesContent() {
+        Specification<Author> specification = authorSpecificationUtil.generateSpecification(
+                List.of(new Criteria("books.bookName", Operator.EQUALS, List.of("Arrakis"))),
+                List.of(new Criteria("books.description", Operator.CONTAIN, List.of("ocean")),
+                        new Criteria("name", Operator.EQUALS, List.of("Frank Herbert"))),
+                CriteriaOperator.AND);
+
+        assertEquals(List.of(1L), findIds(specification));
+        assertEquals(1L, count(specification));
+    }
+
+    private <E> long countJoins(Class<E> entityClass, Specification<E> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = cb.createQuery(entityClass);
+        Root<E> root = query.from(entityClass);
+        query.where(specification.toPredicate(root, query, cb));
+        entityManager.createQuery(query).getResultList();
+        return countJoins(root);
+    }
+
+    private long countJoins(From<?, ?> from) {
+        return from.getJoins().stream().mapToLong(join -> 1 + countJoins(join)).sum();
+    }
+
+    private List<Object> findIds(Specification<Author> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = cb.createQuery(Object.class);
+        Root<Author> root = query.from(Author.class);
+        query.where(specification.toPredicate(root, query, cb));
+        query.select(root.get("id")).distinct(true).orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Count is selected after applying the specification, as done by Spring Data JPA.
+     */
+    private long count(Specification<Author> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Author> root = query.from(Author.class);
+        query.where(specification.toPredicate(root, query, cb));
+        query.select(cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.smartsensesolutions.commons.dao.specification;
+
+import com.smartsensesolutions.commons.dao.specification.converter.TypeValueConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.ResolvableType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SpecificationValueConverterTest {
+
+    private static final Instant INSTANT = Instant.parse("2024-01-02T03:04:05Z");
+    private static final UUID ID = UUID.fromString("0b6e7a1c-3f2d-4c5e-9a8b-7c6d5e4f3a2b");
+
+    private final SpecificationValueConverter converter = new SpecificationValueConverter(List.of());
+
+    enum Level {
+        LOW,
+        HIGH {
+            @Override
+            public String toString() {
+                return "high-level";
+            }
+        }
+    }
+
+    static Stream<Arguments> builtInConversions() {
+        return Stream.of(
+                Arguments.of(String.class, 5, "5"),
+                Arguments.of(Date.class, 1000L, new Date(1000)),
+                Arguments.of(Date.class, "1000", new Date(1000)),
+                Arguments.of(Date.class, "2024-01-02T03:04:05Z", Timestamp.from(INSTANT)),
+                Arguments.of(Timestamp.class, new Date(1000), new Timestamp(1000)),
+                Arguments.of(Timestamp.class, "-1000", new Timestamp(-1000)),
+                Arguments.of(Timestamp.class, "2024-01-02T03:04:05Z", Timestamp.from(INSTANT)),
+                Arguments.of(UUID.class, ID.toString(), ID),
+                Arguments.of(Long.class, " 42 ", 42L),
+                Arguments.of(Long.class, 42, 42L),
+                Arguments.of(Integer.class, "42", 42),
+                Arguments.of(int.class, 42L, 42),
+                Arguments.of(Short.class, "42", (short) 42),
+                Arguments.of(Byte.class, "42", (byte) 42),
+                Arguments.of(Double.class, "4.2", 4.2d),
+                Arguments.of(Float.class, 4, 4f),
+                Arguments.of(BigDecimal.class, "4.20", new BigDecimal("4.20")),
+                Arguments.of(BigInteger.class, 42, BigInteger.valueOf(42)),
+                Arguments.of(Boolean.class, "TRUE", true),
+                Arguments.of(boolean.class, " false ", false),
+                Arguments.of(LocalDate.class, "2024-01-02", LocalDate.of(2024, 1, 2)),
+                Arguments.of(LocalDateTime.class, "2024-01-02T03:04:05", LocalDateTime.of(2024, 1, 2, 3, 4, 5)),
+                Arguments.of(LocalTime.class, "03:04:05", LocalTime.of(3, 4, 5)),
+                Arguments.of(OffsetDateTime.class, "2024-01-02T03:04:05+05:30",
+                        OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.ofHoursMinutes(5, 30))),
+                Arguments.of(ZonedDateTime.class, "2024-01-02T03:04:05Z", ZonedDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC)),
+                Arguments.of(Instant.class, 1000, Instant.ofEpochMilli(1000)),
+                Arguments.of(Instant.class, "2024-01-02T03:04:05Z", INSTANT));
+    }
+
+    @ParameterizedTest
+    @MethodSource("builtInConversions")
+    void builtInConverterConvertsValue(Class<?> javaType, Object value, Object expected) {
+        assertEquals(expected, converter.getConverter(javaType).apply(value));
+    }
+
+    @Test
+    void valueOfJavaTypeAndNullAreReturnedAsTheyAre() {
+        LocalDate date = LocalDate.of(2024, 1, 2);
+
+        assertSame(date, converter.getConverter(LocalDate.class).apply(date));
+        assertNull(converter.getConverter(LocalDate.class).apply(null));
+        assertNull(converter.getConverter(Level.class).apply(null));
+    }
+
+    @Test
+    void enumIsMatchedByNameToStringAndOrdinal() {
+        assertEquals(Level.HIGH, converter.getConverter(Level.class).apply("HIGH"));
+        assertEquals(Level.HIGH, converter.getConverter(Level.class).apply("high-level"));
+        assertEquals(Level.HIGH, converter.getConverter(Level.class).apply("1"));
+        assertEquals(Level.LOW, converter.getConverter(Level.class).apply(0));
+        assertSame(Level.LOW, converter.getConverter(Level.class).apply(Level.LOW));
+    }
+
+    static Stream<Arguments> invalidValues() {
+        return Stream.of(
+                Arguments.of(Level.class, "MEDIUM"),
+                Arguments.of(Level.class, 2),
+                Arguments.of(Level.class, -1),
+                Arguments.of(Long.class, "4.2"),
+                Arguments.of(Integer.class, "four"),
+                Arguments.of(BigDecimal.class, "four"),
+                Arguments.of(UUID.class, "four"),
+                Arguments.of(Boolean.class, "yes"),
+                Arguments.of(LocalDate.class, "2024-13-01"),
+                Arguments.of(LocalDateTime.class, "2024-01-02"),
+                Arguments.of(Instant.class, "2024-01-02"),
+                Arguments.of(Date.class, "2024-01-02"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidValues")
+    void invalidValueIsRejected(Class<?> javaType, Object value) {
+        assertThrows(IllegalArgumentException.class, () -> converter.getConverter(javaType).apply(value));
+    }
+
+    @Test
+    void customConverterBeanOverridesBuiltInConverter() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("localDateConverter", new DayMonthYearConverter());
+        ObjectProvider<TypeValueConverter<?>> customConverters = beanFactory.getBeanProvider(ResolvableType.forClass(TypeValueConverter.class));
+
+        SpecificationValueConverter customConverter = new SpecificationValueConverter(customConverters);
+
+        assertEquals(LocalDate.of(2024, 1, 2), customConverter.getConverter(LocalDate.class).apply("02/01/2024"));
+        assertEquals(42L, customConverter.getConverter(Long.class).apply("42"));
+    }
+
+    private static class DayMonthYearConverter implements TypeValueConverter<LocalDate> {
+
+        @Override
+        public Class<LocalDate> getType() {
+            return LocalDate.class;
+        }
+
+        @Override
+        public LocalDate convert(Object value) {
+            return LocalDate.parse(value.toString(), DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        }
+    }
+}
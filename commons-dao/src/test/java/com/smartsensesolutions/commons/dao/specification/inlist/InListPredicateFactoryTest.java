@@ -0,0 +1,133 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.smartsensesolutions.commons.dao.specification.inlist;
+
+import com.smartsensesolutions.commons.dao.config.CommonsDaoHibernatePropertiesCustomizer;
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.entity.Author;
+import com.smartsensesolutions.commons.dao.filter.Criteria;
+import com.smartsensesolutions.commons.dao.operator.Operator;
+import com.smartsensesolutions.commons.dao.specification.SpecificationUtil;
+import com.smartsensesolutions.commons.dao.specification.SpecificationValueConverter;
+import com.smartsensesolutions.commons.dao.specification.plan.FilterPlanCache;
+import com.smartsensesolutions.commons.dao.specification.text.FunctionTextSearchStrategy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Verifies each {@link InListStrategy} returns the same records, and the values are staged only on request.
+ */
+@DataJpaTest(properties = {"smartsense.commons.dao.in-list.array-threshold=2", "smartsense.commons.dao.in-list.temp-table-threshold=4"})
+@EnableConfigurationProperties
+@Import({SpecificationUtil.class, SpecificationValueConverter.class, FilterPlanCache.class, FunctionTextSearchStrategy.class,
+        InListPredicateFactory.class, CommonsDaoProperties.class, CommonsDaoHibernatePropertiesCustomizer.class})
+class InListPredicateFactoryTest {
+
+    @Autowired
+    private SpecificationUtil<Author> specificationUtil;
+
+    @Autowired
+    private InListPredicateFactory inListPredicateFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void insertAuthors() {
+        entityManager.createNativeQuery("insert into author (id, name) values (1, 'Asimov'), (2, 'Banks'), (3, 'Clarke'), "
+                + "(4, 'Dick'), (5, 'Egan'), (6, 'Gibson')").executeUpdate();
+    }
+
+    @Test
+    void strategiesAreDisabledByDefault() {
+        CommonsDaoProperties.InList config = new CommonsDaoProperties().getInList();
+
+        assertFalse(config.isPadding());
+        assertEquals(0, config.getArrayThreshold());
+        assertEquals(0, config.getTempTableThreshold());
+    }
+
+    @Test
+    void valuesUpToArrayThresholdAreInlined() {
+        List<Criteria> criteriaList = List.of(new Criteria("id", Operator.IN, List.of("1", "2")));
+
+        assertEquals(InListStrategy.INLINE, inListPredicateFactory.getStrategy(Long.class, 2));
+        assertEquals(List.of(1L, 2L), findIds(specificationUtil.generateAndSpecification(criteriaList)));
+    }
+
+    @Test
+    void valuesAboveArrayThresholdAreBoundAsArray() {
+        List<Criteria> criteriaList = List.of(new Criteria("id", Operator.IN, List.of("1", "3", "5")));
+
+        assertEquals(InListStrategy.ARRAY, inListPredicateFactory.getStrategy(Long.class, 3));
+        assertEquals(List.of(1L, 3L, 5L), findIds(specificationUtil.generateAndSpecification(criteriaList)));
+    }
+
+    @Test
+    void valuesAboveTempTableThresholdAreStagedBeforeQuery() {
+        List<Criteria> criteriaList = List.of(new Criteria("id", Operator.NOT_IN, List.of("1", "2", "3", "4", "5")));
+        Specification<Author> specification = specificationUtil.generateAndSpecification(criteriaList);
+
+        assertEquals(InListStrategy.TEMP_TABLE, inListPredicateFactory.getStrategy(Long.class, 5));
+        assertEquals(List.of(6L), findIds(specification));
+        assertEquals(0, countStagedValues());
+
+        specificationUtil.stageInLists(entityManager.getMetamodel().managedType(Author.class), criteriaList);
+        specificationUtil.stageInLists(entityManager.getMetamodel().managedType(Author.class), criteriaList);
+
+        assertEquals(5, countStagedValues());
+        assertEquals(List.of(6L), findIds(specification));
+    }
+
+    private List<Object> findIds(Specification<Author> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Author> query = cb.createQuery(Author.class);
+        Root<Author> root = query.from(Author.class);
+        query.where(specification.toPredicate(root, query, cb)).orderBy(cb.asc(root.get("id")));
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        return entityManager.createQuery(query).getResultList().stream().map(persistenceUnitUtil::getIdentifier).toList();
+    }
+
+    /**
+     * Number of values in the temporary table, {@code 0} if the table is not created yet.
+     */
+    private long countStagedValues() {
+        Number tables = (Number) entityManager.createNativeQuery("select count(*) from information_schema.tables where table_name = '"
+                + InListFunctionContributor.TEMP_TABLE.toUpperCase() + "'").getSingleResult();
+        if (tables.longValue() == 0) {
+            return 0;
+        }
+        return ((Number) entityManager.createNativeQuery("select count(*) from " + InListFunctionContributor.TEMP_TABLE)
+                .getSingleResult()).longValue();
+    }
+}
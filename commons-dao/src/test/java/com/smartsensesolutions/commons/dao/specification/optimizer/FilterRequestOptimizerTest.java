@@ -0,0 +1,164 @@
+/*
+ * Copyright 2024 smartSense Consulting Solutions Pvt. Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.smartsensesolutions.commons.dao.specification.optimizer;
+
+import com.smartsensesolutions.commons.dao.config.CommonsDaoProperties;
+import com.smartsensesolutions.commons.dao.entity.Author;
+import com.smartsensesolutions.commons.dao.filter.Criteria;
+import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.operator.CriteriaOperator;
+import com.smartsensesolutions.commons.dao.operator.Operator;
+import com.smartsensesolutions.commons.dao.specification.SpecificationValueConverter;
+import com.smartsensesolutions.commons.dao.specification.plan.FilterPlanCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.ManagedType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies each rewrite rule of the {@link FilterRequestOptimizer}.
+ */
+@DataJpaTest
+@EnableConfigurationProperties
+@Import({FilterRequestOptimizer.class, FilterPlanCache.class, SpecificationValueConverter.class, CommonsDaoProperties.class})
+class FilterRequestOptimizerTest {
+
+    @Autowired
+    private FilterRequestOptimizer filterRequestOptimizer;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void optimizationIsDisabledByDefault() {
+        assertFalse(new CommonsDaoProperties().isOptimizeFilter());
+    }
+
+    @Test
+    void containOfEmptyStringBecomesNotNull() {
+        OptimizedFilter optimized = optimize(CriteriaOperator.AND, new Criteria("name", Operator.CONTAIN, List.of("")));
+
+        assertEquals(List.of(new Criteria("name", Operator.NOT_NULL, List.of())), optimized.filter().getCriteria());
+    }
+
+    @Test
+    void notContainOfEmptyStringIsUnsatisfiable() {
+        assertTrue(optimize(CriteriaOperator.AND, new Criteria("name", Operator.NOT_CONTAIN, List.of(""))).unsatisfiable());
+    }
+
+    @Test
+    void duplicateValuesAreRemovedAndOrdered() {
+        OptimizedFilter optimized = optimize(CriteriaOperator.AND, new Criteria("id", Operator.IN, List.of("3", "1", "3")),
+                new Criteria("id", Operator.IN, List.of("3", "1", "3")));
+
+        assertEquals(List.of(new Criteria("id", Operator.IN, List.of("1", "3"))), optimized.filter().getCriteria());
+    }
+
+    @Test
+    void inOfSingleValueBecomesEquals() {
+        OptimizedFilter optimized = optimize(CriteriaOperator.AND, new Criteria("id", Operator.IN, List.of("2", "2")));
+
+        assertEquals(List.of(new Criteria("id", Operator.EQUALS, List.of("2"))), optimized.filter().getCriteria());
+    }
+
+    @Test
+    void inOfAndCriteriaAreIntersected() {
+        OptimizedFilter optimized = optimize(CriteriaOperator.AND, new Criteria("id", Operator.IN, List.of("1", "2", "3")),
+                new Criteria("id", Operator.IN, List.of("2", "3", "4")), new Criteria("id", Operator.NOT_EQUAL, List.of("3")));
+
+        assertEquals(List.of(new Criteria("id", Operator.EQUALS, List.of("2"))), optimized.filter().getCriteria());
+    }
+
+    @Test
+    void disjointEqualsOfAndCriteriaAreUnsatisfiable() {
+        assertTrue(optimize(CriteriaOperator.AND, new Criteria("id", Operator.EQUALS, List.of("1")),
+                new Criteria("id", Operator.EQUALS, List.of("2"))).unsatisfiable());
+    }
+
+    @Test
+    void equalsOfOrCriteriaAreFoldedIntoIn() {
+        OptimizedFilter optimized = optimize(CriteriaOperator.OR, new Criteria("id", Operator.EQUALS, List.of("2")),
+                new Criteria("id", Operator.EQUALS, List.of("1")), new Criteria("id", Operator.IN, List.of("2", "3")));
+
+        assertEquals(List.of(new Criteria("id", Operator.IN, List.of("1", "2", "3"))), optimized.filter().getCriteria());
+    }
+
+    @Test
+    void nullAndNotNullOfOrCriteriaMatchAll() {
+        OptimizedFilter optimized = optimize(CriteriaOperator.OR, new Criteria("name", Operator.NULL, List.of()),
+                new Criteria("name", Operator.NOT_NULL, List.of()));
+
+        assertFalse(optimized.unsatisfiable());
+        assertNull(optimized.filter().getCriteria());
+    }
+
+    @Test
+    void nullAndNotNullOfAndCriteriaAreUnsatisfiable() {
+        assertTrue(optimize(CriteriaOperator.AND, new Criteria("name", Operator.NULL, List.of()),
+                new Criteria("name", Operator.NOT_NULL, List.of())).unsatisfiable());
+    }
+
+    @Test
+    void criteriaAreOrderedByColumnAndOperator() {
+        OptimizedFilter optimized = optimize(CriteriaOperator.AND, new Criteria("name", Operator.STARTS_WITH, List.of("A")),
+                new Criteria("id", Operator.GREATER_THAN, List.of("1")));
+
+        assertEquals(List.of(new Criteria("id", Operator.GREATER_THAN, List.of("1")),
+                new Criteria("name", Operator.STARTS_WITH, List.of("A"))), optimized.filter().getCriteria());
+    }
+
+    @Test
+    void malformedValueIsRejectedEvenIfUnsatisfiable() {
+        assertThrows(IllegalArgumentException.class, () -> optimize(CriteriaOperator.AND,
+                new Criteria("name", Operator.NULL, List.of()), new Criteria("name", Operator.NOT_NULL, List.of()),
+                new Criteria("id", Operator.IN, List.of("1", "one"))));
+    }
+
+    @Test
+    void givenFilterRequestIsNotModified() {
+        List<Criteria> criteria = List.of(new Criteria("id", Operator.IN, List.of("3", "1")));
+        FilterRequest filter = new FilterRequest();
+        filter.setCriteria(criteria);
+
+        filterRequestOptimizer.optimize(getEntityType(), filter);
+
+        assertEquals(List.of(new Criteria("id", Operator.IN, List.of("3", "1"))), filter.getCriteria());
+    }
+
+    private OptimizedFilter optimize(CriteriaOperator operator, Criteria... criteria) {
+        FilterRequest filter = new FilterRequest();
+        filter.setCriteriaOperator(operator);
+        filter.setCriteria(List.of(criteria));
+        return filterRequestOptimizer.optimize(getEntityType(), filter);
+    }
+
+    private ManagedType<Author> getEntityType() {
+        return entityManager.getMetamodel().managedType(Author.class);
+    }
+}
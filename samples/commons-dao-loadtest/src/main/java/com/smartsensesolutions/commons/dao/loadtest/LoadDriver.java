@@ -0,0 +1,312 @@
+package com.smartsensesolutions.commons.dao.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Replays a mixed FilterRequest workload against the {@code AuthorResources} and {@code CountryResources} of the
+ * running sample application at a fixed concurrency, each worker sends the next request once the previous one completes.
+ * Reports the throughput and the latency percentiles per scenario after the run.
+ * <p>
+ * Arguments, all optional:
+ * <pre>
+ * --url=http://localhost:8080  base url of the sample application
+ * --concurrency=16             number of concurrent workers
+ * --duration=60s               measured duration
+ * --warmup=10s                 duration before the measurement, the requests are not recorded
+ * --mix=author-page:20,...     weight of each scenario, scenarios without weight are not sent
+ * --cities=500                 number of cities of the generated data, used to pick matching values
+ * --countries=200              number of countries of the generated data
+ * --seed=7                     seed of the random generator of the criteria values
+ * --report=build/report.json   write the report as JSON too
+ * </pre>
+ */
+public class LoadDriver {
+
+    private record Scenario(String name, String path, Function<SplittableRandom, String> body) {
+    }
+
+    private final URI baseUrl;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final long seed;
+    private final Path report;
+    private final List<Scenario> scenarios = new ArrayList<>();
+    private final List<Integer> weights = new ArrayList<>();
+    private final HttpClient httpClient;
+
+    public LoadDriver(Map<String, String> args) {
+        this.baseUrl = URI.create(args.getOrDefault("url", "http://localhost:8080"));
+        this.concurrency = Integer.parseInt(args.getOrDefault("concurrency", "16"));
+        this.duration = parseDuration(args.getOrDefault("duration", "60s"));
+        this.warmup = parseDuration(args.getOrDefault("warmup", "10s"));
+        this.seed = Long.parseLong(args.getOrDefault("seed", "7"));
+        this.report = args.containsKey("report") ? Path.of(args.get("report")) : null;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(concurrency))
+                .build();
+        int cities = Integer.parseInt(args.getOrDefault("cities", "500"));
+        int countries = Integer.parseInt(args.getOrDefault("countries", "200"));
+        Map<String, Scenario> available = getScenarios(cities, countries);
+        String mix = args.getOrDefault("mix", "author-page:20,author-name:15,author-name-prefix:10,author-contains:10,"
+                + "author-status:10,author-city:10,author-and-or:10,author-cursor:8,public-author:5,country:2");
+        for (String entry : mix.split(",")) {
+            String[] nameWeight = entry.trim().split(":");
+            Scenario scenario = available.get(nameWeight[0]);
+            if (scenario == null) {
+                throw new IllegalArgumentException("unknown scenario " + nameWeight[0] + ", available " + available.keySet());
+            }
+            scenarios.add(scenario);
+            weights.add(nameWeight.length > 1 ? Integer.parseInt(nameWeight[1]) : 1);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            String[] keyValue = arg.replaceFirst("^--", "").split("=", 2);
+            arguments.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "true");
+        }
+        new LoadDriver(arguments).run();
+        System.exit(0);
+    }
+
+    public void run() throws Exception {
+        System.out.printf("Running %s for %s after %s warmup with %d workers%n", baseUrl, duration, warmup, concurrency);
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Map<String, LatencySamples>>> results = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            SplittableRandom random = new SplittableRandom(seed + i);
+            results.add(workers.submit(() -> work(random, warmupEnd, end)));
+        }
+        Map<String, LatencySamples> samples = new LinkedHashMap<>();
+        scenarios.forEach(scenario -> samples.put(scenario.name(), new LatencySamples()));
+        for (Future<Map<String, LatencySamples>> result : results) {
+            result.get().forEach((name, workerSamples) -> samples.get(name).addAll(workerSamples));
+        }
+        workers.shutdown();
+        LatencySamples total = new LatencySamples();
+        samples.values().forEach(total::addAll);
+        samples.put("total", total);
+        print(samples);
+        if (report != null) {
+            writeReport(samples);
+        }
+    }
+
+    private Map<String, LatencySamples> work(SplittableRandom random, long warmupEnd, long end) {
+        Map<String, LatencySamples> samples = new HashMap<>();
+        int totalWeight = weights.stream().mapToInt(Integer::intValue).sum();
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Scenario scenario = pick(random, totalWeight);
+            HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve(scenario.path()))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(scenario.body().apply(random)))
+                    .build();
+            boolean failed;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() >= 400;
+            } catch (IOException ex) {
+                failed = true;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long elapsed = System.nanoTime() - now;
+            if (now >= warmupEnd) {
+                LatencySamples scenarioSamples = samples.computeIfAbsent(scenario.name(), name -> new LatencySamples());
+                if (failed) {
+                    scenarioSamples.errors++;
+                } else {
+                    scenarioSamples.add(elapsed);
+                }
+            }
+        }
+        return samples;
+    }
+
+    private Scenario pick(SplittableRandom random, int totalWeight) {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < scenarios.size(); i++) {
+            value -= weights.get(i);
+            if (value < 0) {
+                return scenarios.get(i);
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private Map<String, Scenario> getScenarios(int cities, int countries) {
+        ZipfDistribution pages = new ZipfDistribution(100, 1.2);
+        ZipfDistribution cityDistribution = new ZipfDistribution(cities, 1.0);
+        ZipfDistribution firstNames = new ZipfDistribution(SampleVocabulary.FIRST_NAMES.size(), 0.8);
+        ZipfDistribution lastNames = new ZipfDistribution(SampleVocabulary.LAST_NAMES.size(), 0.8);
+        Map<String, Scenario> available = new LinkedHashMap<>();
+        List.of(
+                new Scenario("author-page", "/author/search", random ->
+                        request(pages.sample(random), 20, sort("id", "ASC"), List.of(), List.of(), "AND")),
+                new Scenario("author-name", "/author/search", random ->
+                        request(0, 20, sort("id", "ASC"), List.of(criteria("authorName", "EQUALS",
+                                SampleVocabulary.FIRST_NAMES.get(firstNames.sample(random)) + " "
+                                        + SampleVocabulary.LAST_NAMES.get(lastNames.sample(random)))), List.of(), "AND")),
+                new Scenario("author-name-prefix", "/author/search", random ->
+                        request(0, 20, sort("authorName", "ASC"), List.of(criteria("authorName", "STARTS_WITH",
+                                SampleVocabulary.FIRST_NAMES.get(firstNames.sample(random)))), List.of(), "AND")),
+                new Scenario("author-contains", "/author/search", random ->
+                        request(0, 20, sort("id", "DESC"), List.of(criteria("authorName", "CONTAIN",
+                                SampleVocabulary.LAST_NAMES.get(random.nextInt(SampleVocabulary.LAST_NAMES.size()))
+                                        .substring(1).toLowerCase(Locale.ROOT))), List.of(), "AND")),
+                new Scenario("author-status", "/author/search", random ->
+                        request(random.nextInt(5), 50, sort("createdAt", "DESC"), List.of(
+                                criteria("status", "IN", "AWAY", "DND", "ON_CALL"),
+                                criteria("level", "GREATER_EQUALS", String.valueOf(random.nextInt(4)))), List.of(), "AND")),
+                new Scenario("author-city", "/author/search", random ->
+                        request(0, 20, sort("id", "ASC"), List.of(criteria("address.city", "EQUALS",
+                                SampleVocabulary.city(cityDistribution.sample(random)))), List.of(), "AND")),
+                new Scenario("author-and-or", "/author/search", random -> {
+                    int age = 18 + random.nextInt(50);
+                    return request(0, 20, sort("id", "ASC"), List.of(
+                                    criteria("active", "TRUE"),
+                                    criteria("age", "GREATER_EQUALS", String.valueOf(age)),
+                                    criteria("age", "LESSER_THAN", String.valueOf(age + 5))),
+                            List.of(criteria("address.city", "EQUALS", SampleVocabulary.city(cityDistribution.sample(random))),
+                                    criteria("authorName", "STARTS_WITH", SampleVocabulary.FIRST_NAMES.get(firstNames.sample(random)))),
+                            "AND");
+                }),
+                new Scenario("author-cursor", "/author/search/cursor", random ->
+                        request(0, 20, sort("createdAt", "DESC"), List.of(criteria("active", "TRUE")), List.of(), "AND")),
+                new Scenario("public-author", "/public/author/search", random ->
+                        request(0, 20, sort("id", "ASC"), List.of(criteria("authorName", "STARTS_WITH",
+                                SampleVocabulary.FIRST_NAMES.get(firstNames.sample(random)))), List.of(), "AND")),
+                // country eagerly loads all of its authors, pick from the long tail of small countries
+                new Scenario("country", "/country/search", random ->
+                        request(0, 5, sort("id", "ASC"), List.of(criteria("countryName", "EQUALS",
+                                SampleVocabulary.country(countries / 2 + random.nextInt(countries - countries / 2)))), List.of(), "AND"))
+        ).forEach(scenario -> available.put(scenario.name(), scenario));
+        return available;
+    }
+
+    private static String request(int page, int size, String sort, List<String> criteria, List<String> orCriteria, String criteriaOperator) {
+        return "{\"page\":" + page + ",\"size\":" + size + ",\"sort\":[" + sort + "],\"criteriaOperator\":\"" + criteriaOperator
+                + "\",\"criteria\":[" + String.join(",", criteria) + "],\"orCriteria\":[" + String.join(",", orCriteria) + "]}";
+    }
+
+    private static String sort(String column, String sortType) {
+        return "{\"column\":\"" + column + "\",\"sortType\":\"" + sortType + "\"}";
+    }
+
+    private static String criteria(String column, String operator, String... values) {
+        StringJoiner json = new StringJoiner(",", "[", "]");
+        Arrays.stream(values).forEach(value -> json.add("\"" + value + "\""));
+        return "{\"column\":\"" + column + "\",\"operator\":\"" + operator + "\",\"values\":" + json + "}";
+    }
+
+    private void print(Map<String, LatencySamples> samples) {
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("%-20s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        samples.forEach((name, sample) -> System.out.printf("%-20s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                name, sample.size, sample.errors, sample.size / seconds, sample.percentileMillis(50),
+                sample.percentileMillis(90), sample.percentileMillis(99), sample.percentileMillis(99.9),
+                sample.percentileMillis(100)));
+    }
+
+    private void writeReport(Map<String, LatencySamples> samples) throws IOException {
+        double seconds = duration.toNanos() / 1e9;
+        StringJoiner scenarioJson = new StringJoiner(",", "[", "]");
+        samples.forEach((name, sample) -> scenarioJson.add(String.format(Locale.ROOT,
+                "{\"scenario\":\"%s\",\"requests\":%d,\"errors\":%d,\"throughput\":%.2f,\"p50\":%.3f,\"p90\":%.3f,"
+                        + "\"p99\":%.3f,\"p999\":%.3f,\"max\":%.3f}",
+                name, sample.size, sample.errors, sample.size / seconds, sample.percentileMillis(50),
+                sample.percentileMillis(90), sample.percentileMillis(99), sample.percentileMillis(99.9),
+                sample.percentileMillis(100))));
+        String json = "{\"url\":\"" + baseUrl + "\",\"concurrency\":" + concurrency + ",\"durationSeconds\":" + seconds
+                + ",\"scenarios\":" + scenarioJson + "}";
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        Files.writeString(report, json);
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.startsWith("P") || value.startsWith("p")) {
+            return Duration.parse(value);
+        }
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> Duration.ofSeconds(Long.parseLong(value));
+        };
+    }
+
+    /**
+     * Latencies of a scenario in nanoseconds, owned by a single worker until merged after the run.
+     */
+    private static class LatencySamples {
+
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+        private boolean sorted;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            sorted = false;
+        }
+
+        void addAll(LatencySamples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+            errors += other.errors;
+        }
+
+        double percentileMillis(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(values, 0, size);
+                sorted = true;
+            }
+            int index = (int) Math.ceil(percentile / 100 * size) - 1;
+            return values[Math.max(0, Math.min(size - 1, index))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.smartsensesolutions.commons.dao.loadtest;
+
+import com.smartsensesolutions.commons.dao.sample.CommonsDaoSampleApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Starts the sample application with the {@code loadtest} profile i.e. on the embedded H2 database, the
+ * {@link SyntheticDataGenerator} fills the tables on the first start.
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(CommonsDaoSampleApplication.class)
+                .profiles("loadtest")
+                .run(args);
+    }
+}
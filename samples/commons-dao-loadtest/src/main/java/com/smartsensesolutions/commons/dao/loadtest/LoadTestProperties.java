@@ -0,0 +1,46 @@
+package com.smartsensesolutions.commons.dao.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    private final Generator generator = new Generator();
+
+    @Getter
+    @Setter
+    public static class Generator {
+
+        /**
+         * Generate the data on start when the author table is empty.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of authors, each author has an address and one to {@code maxBooksPerAuthor} books.
+         */
+        private long authors = 100_000;
+
+        private int countries = 200;
+
+        private int cities = 500;
+
+        private int maxBooksPerAuthor = 10;
+
+        /**
+         * Number of rows written by one multi-row insert statement.
+         */
+        private int rowsPerInsert = 500;
+
+        /**
+         * Seed of the random generator, the same seed generates the same data.
+         */
+        private long seed = 42;
+    }
+}
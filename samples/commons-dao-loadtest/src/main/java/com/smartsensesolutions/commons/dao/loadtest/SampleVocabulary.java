@@ -0,0 +1,46 @@
+package com.smartsensesolutions.commons.dao.loadtest;
+
+import java.util.List;
+
+/**
+ * Words used by the {@link SyntheticDataGenerator} to generate the data, and by the {@link LoadDriver} to generate
+ * criteria values which match the generated data.
+ */
+public final class SampleVocabulary {
+
+    public static final List<String> FIRST_NAMES = List.of("John", "Ramesh", "Kanji", "Zimple", "Yeo", "Yurky", "Zastrow",
+            "Ziemer", "Aarav", "Vivaan", "Aditya", "Anaya", "Diya", "Ishaan", "Emma", "Olivia", "Liam", "Noah", "Sophia",
+            "Lucas", "Mia", "Ethan", "Amelia", "Mateo", "Hana", "Kenji", "Yuki", "Chen", "Wei", "Lina", "Omar", "Fatima");
+
+    public static final List<String> LAST_NAMES = List.of("Doe", "Miller", "Varma", "Purohit", "Eriksen", "Anderson",
+            "Thomson", "Olsson", "Patel", "Shah", "Mehta", "Joshi", "Desai", "Smith", "Johnson", "Brown", "Garcia",
+            "Martinez", "Tanaka", "Sato", "Wang", "Li", "Khan", "Mueller", "Schmidt", "Rossi", "Dubois", "Silva");
+
+    public static final List<String> CITY_PREFIXES = List.of("Ahmed", "Raj", "Gandhi", "Jam", "Sur", "Vad", "Bhav",
+            "Jun", "Am", "Port", "New", "San", "Fort", "Lake", "North", "South", "East", "West", "Green", "Stone");
+
+    public static final List<String> CITY_SUFFIXES = List.of("abad", "kot", "nagar", "pur", "ville", "ton", "field",
+            "haven", "bridge", "burg", "ford", "wood", "dale", "mouth", "port");
+
+    public static final List<String> BOOK_WORDS = List.of("Spring", "Data", "Java", "Automation", "Microservice",
+            "Design", "Pattern", "Clean", "Architecture", "Refactoring", "Node", "Python", "Analytics", "Cloud",
+            "Kubernetes", "Security", "Testing", "Performance", "Database", "Distributed", "Systems", "Streams");
+
+    private SampleVocabulary() {
+    }
+
+    /**
+     * @param index - Indicates the index of the city, the same index gives the same name.
+     * @return City name
+     */
+    public static String city(int index) {
+        String name = CITY_PREFIXES.get(index % CITY_PREFIXES.size())
+                + CITY_SUFFIXES.get((index / CITY_PREFIXES.size()) % CITY_SUFFIXES.size());
+        int round = index / (CITY_PREFIXES.size() * CITY_SUFFIXES.size());
+        return round == 0 ? name : name + " " + round;
+    }
+
+    public static String country(int index) {
+        return "Country " + (index + 1);
+    }
+}
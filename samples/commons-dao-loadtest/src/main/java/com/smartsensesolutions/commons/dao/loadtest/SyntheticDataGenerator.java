@@ -0,0 +1,234 @@
+package com.smartsensesolutions.commons.dao.loadtest;
+
+import com.smartsensesolutions.commons.dao.sample.entity.EActivityStatus;
+import com.smartsensesolutions.commons.dao.sample.entity.ELevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the sample schema i.e. {@code country}, {@code address}, {@code author}, {@code books} and both mapping tables
+ * with {@code loadtest.generator.authors} authors, when the author table is empty.
+ * <p>
+ * The data is skewed like real data: countries, cities and names follow a Zipf distribution, most of the authors are
+ * active and {@code ONLINE} or {@code OFFLINE}, and most of the authors have one or two books. The rows are written with
+ * multi-row inserts of {@code rows-per-insert} rows, one transaction per chunk of authors.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final EActivityStatus[] STATUSES = {EActivityStatus.ONLINE, EActivityStatus.OFFLINE, EActivityStatus.AWAY,
+            EActivityStatus.DND, EActivityStatus.ON_CALL};
+    private static final double[] STATUS_WEIGHTS = {0.40, 0.35, 0.15, 0.07, 0.03};
+    private static final double[] LEVEL_WEIGHTS = {0.40, 0.30, 0.20, 0.10};
+    private static final long FIVE_YEARS_MILLIS = TimeUnit.DAYS.toMillis(5 * 365);
+
+    private final DataSource dataSource;
+    private final LoadTestProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        LoadTestProperties.Generator config = properties.getGenerator();
+        if (!config.isEnabled()) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            long existing = count(connection, "author");
+            if (existing > 0) {
+                log.info("Skipping data generation, author table already has {} rows", existing);
+                return;
+            }
+            long start = System.nanoTime();
+            connection.setAutoCommit(false);
+            generate(connection, config);
+            connection.setAutoCommit(true);
+            log.info("Generated {} authors in {}", config.getAuthors(), Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private void generate(Connection connection, LoadTestProperties.Generator config) throws SQLException {
+        SplittableRandom random = new SplittableRandom(config.getSeed());
+        ZipfDistribution countries = new ZipfDistribution(config.getCountries(), 1.1);
+        ZipfDistribution cities = new ZipfDistribution(config.getCities(), 1.0);
+        ZipfDistribution firstNames = new ZipfDistribution(SampleVocabulary.FIRST_NAMES.size(), 0.8);
+        ZipfDistribution lastNames = new ZipfDistribution(SampleVocabulary.LAST_NAMES.size(), 0.8);
+        ZipfDistribution bookCounts = new ZipfDistribution(config.getMaxBooksPerAuthor(), 1.5);
+        int chunkSize = config.getRowsPerInsert();
+        long now = System.currentTimeMillis();
+
+        MultiRowInsert countryInsert = new MultiRowInsert(connection, "country", chunkSize,
+                "id", "country_name", "population", "active", "created_at");
+        for (int i = 0; i < config.getCountries(); i++) {
+            countryInsert.add(i + 1, SampleVocabulary.country(i), 1_000_000L + random.nextLong(1_500_000_000L),
+                    random.nextDouble() < 0.9, new Timestamp(now - random.nextLong(FIVE_YEARS_MILLIS)));
+        }
+        countryInsert.flush();
+        connection.commit();
+
+        MultiRowInsert addressInsert = new MultiRowInsert(connection, "address", chunkSize,
+                "id", "city", "house", "street", "active", "created_at");
+        MultiRowInsert authorInsert = new MultiRowInsert(connection, "author", chunkSize,
+                "id", "author_name", "age", "uuid", "active", "status", "level", "created_at", "address_id");
+        MultiRowInsert bookInsert = new MultiRowInsert(connection, "books", chunkSize,
+                "id", "book_name", "description", "active", "created_at");
+        MultiRowInsert authorBookInsert = new MultiRowInsert(connection, "author_books_mapping", chunkSize,
+                "author_id", "book_id");
+        MultiRowInsert countryAuthorInsert = new MultiRowInsert(connection, "country_author_mapping", chunkSize,
+                "country_id", "author_id");
+        long bookId = 0;
+        for (long authorId = 1; authorId <= config.getAuthors(); authorId++) {
+            Timestamp createdAt = new Timestamp(now - random.nextLong(FIVE_YEARS_MILLIS));
+            addressInsert.add(authorId, SampleVocabulary.city(cities.sample(random)), "H " + random.nextInt(1, 2000),
+                    "Street No " + random.nextInt(1, 100), random.nextDouble() < 0.95, createdAt);
+            String name = SampleVocabulary.FIRST_NAMES.get(firstNames.sample(random)) + " "
+                    + SampleVocabulary.LAST_NAMES.get(lastNames.sample(random));
+            long age = Math.round(Math.min(90, Math.max(18, 40 + random.nextGaussian() * 12)));
+            authorInsert.add(authorId, name, age, UUID.randomUUID(), random.nextDouble() < 0.9,
+                    STATUSES[weighted(random, STATUS_WEIGHTS)].name(), ELevel.values()[weighted(random, LEVEL_WEIGHTS)].ordinal(),
+                    createdAt, authorId);
+            int books = bookCounts.sample(random) + 1;
+            for (int i = 0; i < books; i++) {
+                bookId++;
+                bookInsert.add(bookId, bookName(random), bookName(random) + " " + bookName(random), random.nextDouble() < 0.97, createdAt);
+                authorBookInsert.add(authorId, bookId);
+            }
+            countryAuthorInsert.add(countries.sample(random) + 1, authorId);
+            if (authorId % chunkSize == 0 || authorId == config.getAuthors()) {
+                // parent rows first, the mapping rows reference them
+                addressInsert.flush();
+                authorInsert.flush();
+                bookInsert.flush();
+                authorBookInsert.flush();
+                countryAuthorInsert.flush();
+                connection.commit();
+                if (authorId % (chunkSize * 200L) == 0) {
+                    log.info("Generated {} of {} authors", authorId, config.getAuthors());
+                }
+            }
+        }
+        restartIdentity(connection, "country", config.getCountries() + 1L);
+        restartIdentity(connection, "address", config.getAuthors() + 1);
+        restartIdentity(connection, "author", config.getAuthors() + 1);
+        restartIdentity(connection, "books", bookId + 1);
+        connection.commit();
+    }
+
+    private String bookName(SplittableRandom random) {
+        return SampleVocabulary.BOOK_WORDS.get(random.nextInt(SampleVocabulary.BOOK_WORDS.size())) + " "
+                + SampleVocabulary.BOOK_WORDS.get(random.nextInt(SampleVocabulary.BOOK_WORDS.size()));
+    }
+
+    private int weighted(SplittableRandom random, double[] weights) {
+        double value = random.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private long count(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * The ids are generated here, move the identity of the table after the generated ids so the application can insert.
+     */
+    private void restartIdentity(Connection connection, String table, long next) throws SQLException {
+        String database = connection.getMetaData().getDatabaseProductName();
+        String sql = database.startsWith("PostgreSQL")
+                ? "SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " + next + ", false)"
+                : "ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * Buffers the rows of a table and writes them with {@code INSERT INTO t(..) VALUES (..), (..)} statements of
+     * {@code rowsPerInsert} rows on flush.
+     */
+    private static class MultiRowInsert {
+
+        private final Connection connection;
+        private final String table;
+        private final String[] columns;
+        private final int rowsPerInsert;
+        private final List<Object[]> rows = new ArrayList<>();
+        private PreparedStatement fullStatement;
+
+        MultiRowInsert(Connection connection, String table, int rowsPerInsert, String... columns) {
+            this.connection = connection;
+            this.table = table;
+            this.columns = columns;
+            this.rowsPerInsert = rowsPerInsert;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+        }
+
+        void flush() throws SQLException {
+            for (int from = 0; from < rows.size(); from += rowsPerInsert) {
+                List<Object[]> statementRows = rows.subList(from, Math.min(rows.size(), from + rowsPerInsert));
+                if (statementRows.size() == rowsPerInsert) {
+                    if (fullStatement == null) {
+                        fullStatement = connection.prepareStatement(getSql(rowsPerInsert));
+                    }
+                    execute(fullStatement, statementRows);
+                } else {
+                    try (PreparedStatement statement = connection.prepareStatement(getSql(statementRows.size()))) {
+                        execute(statement, statementRows);
+                    }
+                }
+            }
+            rows.clear();
+        }
+
+        private void execute(PreparedStatement statement, List<Object[]> statementRows) throws SQLException {
+            int index = 1;
+            for (Object[] row : statementRows) {
+                for (Object value : row) {
+                    statement.setObject(index++, value);
+                }
+            }
+            statement.executeUpdate();
+        }
+
+        private String getSql(int rowCount) {
+            String row = "(" + "?, ".repeat(columns.length - 1) + "?)";
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append('(')
+                    .append(String.join(", ", columns)).append(") VALUES ");
+            for (int i = 0; i < rowCount; i++) {
+                sql.append(i == 0 ? "" : ", ").append(row);
+            }
+            return sql.toString();
+        }
+    }
+}
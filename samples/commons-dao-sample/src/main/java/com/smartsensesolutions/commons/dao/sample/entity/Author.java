@@ -11,6 +11,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "author")
+@NamedEntityGraph(name = "Author.address", attributeNodes = @NamedAttributeNode("address"))
 @Getter
 @Setter
 @NoArgsConstructor
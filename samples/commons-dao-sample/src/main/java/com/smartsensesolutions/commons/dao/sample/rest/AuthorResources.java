@@ -1,6 +1,7 @@
 package com.smartsensesolutions.commons.dao.sample.rest;
 
 import com.smartsensesolutions.commons.dao.filter.FilterRequest;
+import com.smartsensesolutions.commons.dao.filter.cursor.CursorPage;
 import com.smartsensesolutions.commons.dao.sample.entity.Author;
 import com.smartsensesolutions.commons.dao.sample.entity.PublicAuthorView;
 import com.smartsensesolutions.commons.dao.sample.request.AuthorRequest;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @AllArgsConstructor
@@ -29,6 +31,16 @@ public class AuthorResources {
         return authorService.searchBasedOnPagination(request);
     }
 
+    @PostMapping("/author/search/cursor")
+    public CursorPage<Author> searchAuthorByCursor(@RequestBody FilterRequest request) {
+        return authorService.filterByCursor(request);
+    }
+
+    @PostMapping("/author/search/fields")
+    public Page<Map<String, Object>> searchAuthorFields(@RequestBody FilterRequest request) {
+        return authorService.filterFields(request);
+    }
+
     @PostMapping("/public/author/search")
     public Page<PublicAuthorView> publicSearchAuthor(@RequestBody FilterRequest request) {
         return authorService.filterPublicAuthor(request);
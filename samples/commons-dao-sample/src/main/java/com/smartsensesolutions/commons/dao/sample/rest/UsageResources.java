@@ -0,0 +1,20 @@
+package com.smartsensesolutions.commons.dao.sample.rest;
+
+import com.smartsensesolutions.commons.dao.usage.FilterUsageRecorder;
+import com.smartsensesolutions.commons.dao.usage.FilterUsageReport;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@AllArgsConstructor
+public class UsageResources {
+
+    private final FilterUsageRecorder filterUsageRecorder;
+
+    @GetMapping("/usage/filter")
+    public FilterUsageReport filterUsage(@RequestParam(defaultValue = "20") int limit) {
+        return filterUsageRecorder.getReport(limit);
+    }
+}
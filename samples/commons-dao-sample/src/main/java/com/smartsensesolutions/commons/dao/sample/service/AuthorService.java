@@ -16,6 +16,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @AllArgsConstructor
@@ -28,6 +29,11 @@ public class AuthorService extends BaseService<Author, Long> {
         return authorRepository;
     }
 
+    @Override
+    protected Set<String> getSelectableFields() {
+        return Set.of("authorName", "age", "status", "level", "address.city");
+    }
+
     public Page<Author> searchBasedOnPagination(FilterRequest request) {
         return filter(request);
     }
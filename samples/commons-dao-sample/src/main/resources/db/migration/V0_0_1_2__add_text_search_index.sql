@@ -0,0 +1,5 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_author_author_name_trgm ON author USING gin (author_name gin_trgm_ops);
+
+CREATE INDEX idx_books_description_fts ON books USING gin (to_tsvector('simple', description));